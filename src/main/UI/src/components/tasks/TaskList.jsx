@@ -1,5 +1,5 @@
 import { useState } from 'react';
-import { useQuery } from '@tanstack/react-query';
+import { useInfiniteQuery } from '@tanstack/react-query';
 import { taskService } from '../../services/taskService';
 import TaskCard from './TaskCard';
 import TaskForm from './TaskForm';
@@ -13,10 +13,23 @@ export default function TaskList({
     const { theme } = useTheme();
     const [isCreateModalOpen, setIsCreateModalOpen] = useState(false);
     
-    const { data: tasks, isLoading, refetch } = useQuery({
+    // Pages are only fetched as the user asks for more, so the page stays small however many tasks exist
+    const {
+        data,
+        isLoading,
+        isError,
+        error,
+        refetch,
+        fetchNextPage,
+        hasNextPage,
+        isFetchingNextPage
+    } = useInfiniteQuery({
         queryKey: ['tasks', searchTerm, status, priority],
-        queryFn: () => taskService.searchTasks(searchTerm, status, priority),
+        queryFn: ({ pageParam }) => taskService.searchTasks(searchTerm, status, priority, pageParam),
+        initialPageParam: undefined,
+        getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
     });
+    const tasks = data?.pages.flatMap((page) => page.items);
 
     const handleTaskCreated = () => {
         refetch();
@@ -32,6 +45,15 @@ export default function TaskList({
         );
     }
 
+    if (isError) {
+        return (
+            <div className="text-center py-10 text-red-500">
+                Failed to load tasks. Please try again later.
+                {error instanceof Error && <div className="text-sm">Error: {error.message}</div>}
+            </div>
+        );
+    }
+
     return (
         <div className={`space-y-6 
             ${theme === 'dark' ? 'bg-gray-800' : 'bg-white'}`}>
@@ -72,6 +94,22 @@ export default function TaskList({
                 </div>
             )}
 
+            {hasNextPage && (
+                <div className="flex justify-center">
+                    <button
+                        onClick={() => fetchNextPage()}
+                        disabled={isFetchingNextPage}
+                        className={`px-4 py-2 rounded-md disabled:opacity-50
+                            ${theme === 'dark'
+                                ? 'bg-gray-700 hover:bg-gray-600 text-gray-100'
+                                : 'bg-gray-100 hover:bg-gray-200 text-gray-900'
+                            }`}
+                    >
+                        {isFetchingNextPage ? 'Loading...' : 'Load more'}
+                    </button>
+                </div>
+            )}
+
             {isCreateModalOpen && (
                 <TaskForm
                     isOpen={isCreateModalOpen}
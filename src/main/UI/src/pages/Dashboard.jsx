@@ -32,12 +32,20 @@ const Dashboard = () => {
   const { theme } = useTheme();
   const isDark = theme === 'dark';
 
-  // Fetch all tasks
+  // Counts come from the server-side aggregate; only the last 7 days of tasks are fetched, for the
+  // activity chart and the recent list
+  const { data: stats, isLoading: statsLoading } = useQuery({
+    queryKey: ['taskStats'],
+    queryFn: taskService.getTaskStats
+  });
+
   const { data: tasks, isLoading: tasksLoading } = useQuery({
-    queryKey: ['tasks'],
-    queryFn: async () => {
-      const response = await taskService.getAllTasks();
-      return response;
+    queryKey: ['recentTasks'],
+    queryFn: () => {
+      const since = new Date();
+      since.setHours(0, 0, 0, 0);
+      since.setDate(since.getDate() - 6);
+      return taskService.getTasksCreatedSince(since);
     }
   });
 
@@ -59,7 +67,7 @@ const Dashboard = () => {
     }
   });
 
-  if (tasksLoading || gdprLoading || usersLoading) {
+  if (statsLoading || tasksLoading || gdprLoading || usersLoading) {
     return (
       <div className="flex justify-center items-center h-64">
         <Loading size="lg" />
@@ -69,10 +77,10 @@ const Dashboard = () => {
 
   // Calculate task statistics
   const taskStats = {
-    total: tasks?.length || 0,
-    completed: tasks?.filter(task => task.status === 'CLOSED').length || 0,
-    pending: tasks?.filter(task => task.status === 'IN_PROGRESS').length || 0,
-    open: tasks?.filter(task => task.status === 'OPEN').length || 0
+    total: stats?.total || 0,
+    completed: stats?.byStatus?.CLOSED || 0,
+    pending: stats?.byStatus?.IN_PROGRESS || 0,
+    open: stats?.byStatus?.OPEN || 0
   };
 
   // Prepare stats cards data
@@ -128,7 +136,7 @@ const Dashboard = () => {
                  stats={statsCards}
                  taskActivityData={taskActivityData}
                  taskStatusData={taskStatusData}
-                 recentTasks={tasks.slice(0, 3)}
+                 recentTasks={(tasks || []).slice(0, 3)}
                 />
               }
              fileName="dashboard-report.pdf"
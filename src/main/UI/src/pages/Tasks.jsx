@@ -81,61 +81,17 @@ const TaskPage = () => {
         },
     });
 
-    const { data: allTasks, isError: isAllTasksError } = useQuery({
-        queryKey: ['allTasks'],
-        queryFn: taskService.getAllTasks,
+    // Counts come from the server; the list below loads its pages on demand
+    const { data: stats } = useQuery({
+        queryKey: ['taskStats'],
+        queryFn: taskService.getTaskStats,
     });
 
-    const { 
-        data: tasks, 
-        isLoading, 
-        isError, 
-        error 
-    } = useQuery({
-        queryKey: ['tasks', filters.search, filters.status, filters.priority],
-        queryFn: () => taskService.searchTasks(
-            filters.search, 
-            filters.status, 
-            filters.priority
-        ),
-    });
-    
-    const filteredTasks = tasks || [];
-
-    if (isError) {
-        return (
-            <MuiThemeProvider theme={muiTheme}>
-                <Box sx={{ p: 3 }}>
-                    <Typography color="error" variant="h6">
-                        Failed to load tasks. Please try again later.
-                    </Typography>
-                    {error instanceof Error && (
-                        <Typography color="error.light" variant="body2">
-                            Error: {error.message}
-                        </Typography>
-                    )}
-                </Box>
-            </MuiThemeProvider>
-        );
-    }
-
-    const taskStats = allTasks?.reduce(
-        (acc, task) => {
-            acc.total++;
-            acc[task.status]++;
-            return acc;
-        },
-        {
-            total: 0,
-            OPEN: 0,
-            IN_PROGRESS: 0,
-            CLOSED: 0,
-        }
-    ) || {
-        total: 0,
-        OPEN: 0,
-        IN_PROGRESS: 0,
-        CLOSED: 0,
+    const taskStats = {
+        total: stats?.total || 0,
+        OPEN: stats?.byStatus?.OPEN || 0,
+        IN_PROGRESS: stats?.byStatus?.IN_PROGRESS || 0,
+        CLOSED: stats?.byStatus?.CLOSED || 0,
     };
 
     const handleFilterChange = (event) => {
@@ -295,8 +251,6 @@ const TaskPage = () => {
                 <Card>
                     <CardContent>
                         <TaskList 
-    tasks={filteredTasks} 
-    isLoading={isLoading} 
     searchTerm={filters.search}
     status={filters.status}
     priority={filters.priority}
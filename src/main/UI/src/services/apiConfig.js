@@ -26,6 +26,7 @@ export const API_ENDPOINTS = {
     getByCreator: (creatorId) => `/tasks/creator/${creatorId}`,
     updateStatus: (id) => `/tasks/${id}/status`,
     search: '/tasks/search',
+    stats: '/tasks/stats',
     comments: {
       add: (taskId) => `/tasks/${taskId}/comments`,
       getAll: (taskId) => `/tasks/${taskId}/comments`
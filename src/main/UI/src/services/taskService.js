@@ -19,6 +19,12 @@ const formatDate = (date) => {
   }
 };
 
+// Task listings are keyset-paged: each call returns { items, nextCursor }, and passing nextCursor
+// back fetches the following page. nextCursor is null on the last page.
+const PAGE_SIZE = 50;
+const fetchPage = (url, params = {}, cursor) =>
+  api.get(url, { params: { ...params, size: PAGE_SIZE, cursor } });
+
 // Main task service
 export const taskService = {
   // Create a new task
@@ -62,39 +68,65 @@ export const taskService = {
     }
   },
 
-  // Get all tasks
-  getAllTasks: async () => {
+  // Get one page of all tasks
+  getAllTasks: async (cursor) => {
     try {
-      const response = await api.get(API_ENDPOINTS.tasks.base);
-      return response;
+      return await fetchPage(API_ENDPOINTS.tasks.base, {}, cursor);
     } catch (error) {
       console.error('Error fetching all tasks:', error.response?.data || error);
       throw error;
     }
   },
 
-  // Get tasks by assignee
-  getTasksByAssignee: async (assigneeId) => {
+  // Get one page of tasks by assignee
+  getTasksByAssignee: async (assigneeId, cursor) => {
     try {
-      const response = await api.get(API_ENDPOINTS.tasks.getByAssignee(assigneeId));
-      return response;
+      return await fetchPage(API_ENDPOINTS.tasks.getByAssignee(assigneeId), {}, cursor);
     } catch (error) {
       console.error('Error fetching assignee tasks:', error.response?.data || error);
       throw error;
     }
   },
 
-  // Get tasks by creator
-  getTasksByCreator: async (creatorId) => {
+  // Get one page of tasks by creator
+  getTasksByCreator: async (creatorId, cursor) => {
     try {
-      const response = await api.get(API_ENDPOINTS.tasks.getByCreator(creatorId));
-      return response;
+      return await fetchPage(API_ENDPOINTS.tasks.getByCreator(creatorId), {}, cursor);
     } catch (error) {
       console.error('Error fetching creator tasks:', error.response?.data || error);
       throw error;
     }
   },
 
+  // Tasks created at or after `since`, newest first; stops paging at the first older task
+  getTasksCreatedSince: async (since) => {
+    try {
+      const tasks = [];
+      let cursor;
+      do {
+        const page = await fetchPage(API_ENDPOINTS.tasks.base, {}, cursor);
+        const recent = page.items.filter(task => new Date(task.createdAt) >= since);
+        tasks.push(...recent);
+        cursor = recent.length === page.items.length ? page.nextCursor : null;
+      } while (cursor);
+      return tasks;
+    } catch (error) {
+      console.error('Error fetching recent tasks:', error.response?.data || error);
+      throw error;
+    }
+  },
+
+  // Counts by status, priority and assignee, plus unassigned and overdue
+  getTaskStats: async () => {
+    try {
+      const response = await api.get(API_ENDPOINTS.tasks.stats);
+      return response;
+    } catch (error) {
+      console.error('Error fetching task stats:', error.response?.data || error);
+      throw error;
+    }
+  },
+
   // Update task status
   updateTaskStatus: async (taskId, status) => {
     try {
@@ -140,17 +172,14 @@ export const taskService = {
     }
   },
 
-  // Search tasks
-  searchTasks: async (searchTerm = '', status = 'ALL', priority = 'ALL') => {
+  // Search tasks, one page at a time
+  searchTasks: async (searchTerm = '', status = 'ALL', priority = 'ALL', cursor) => {
     try {
-      const response = await api.get(API_ENDPOINTS.tasks.search, {
-        params: {
-          searchTerm: searchTerm,
-          status: status.toUpperCase(),
-          priority: priority.toUpperCase()
-        }
-      });
-      return response;
+      return await fetchPage(API_ENDPOINTS.tasks.search, {
+        searchTerm: searchTerm,
+        status: status.toUpperCase(),
+        priority: priority.toUpperCase()
+      }, cursor);
     } catch (error) {
       console.error('Error searching tasks:', error.response?.data || error);
       throw error;
@@ -1,7 +1,11 @@
 package com.project.gdpr.config;
 
+import com.project.gdpr.security.BoundedPasswordEncoder;
+import com.project.gdpr.security.PrincipalCache;
 import com.project.gdpr.security.UserDetailsImpl;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -15,24 +19,27 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.project.gdpr.repository.UserRepository;
 
+import java.time.Duration;
+
 @Configuration
 @RequiredArgsConstructor
 public class ApplicationConfig {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Bean
     public UserDetailsService userDetailsService() {
-        return username -> userRepository.findByUsername(username)
+        return username -> principalCache.get(username, key -> userRepository.findByUsername(key)
                 .map(UserDetailsImpl::new)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + key)));
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService());
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
@@ -41,8 +48,15 @@ public class ApplicationConfig {
         return config.getAuthenticationManager();
     }
 
+    // BCrypt runs on its own bounded pool so login bursts cannot starve the request threads
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${application.security.login.hashing-threads:2}") int threads,
+            @Value("${application.security.login.hashing-queue-capacity:50}") int queueCapacity,
+            @Value("${application.security.login.hashing-timeout:5s}") Duration timeout,
+            @Value("${application.security.login.retry-after:2s}") Duration retryAfter,
+            MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), threads, queueCapacity,
+                timeout, retryAfter, meterRegistry);
     }
 }
@@ -5,6 +5,8 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import com.project.gdpr.entity.UserRole;
+import com.project.gdpr.security.TokenVersionRegistry;
 import com.project.gdpr.security.UserDetailsImpl;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -16,6 +18,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -23,6 +27,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenVersionRegistry tokenVersionRegistry;
+
     @Override
     protected void doFilterInternal(
             @NonNull HttpServletRequest request,
@@ -30,35 +36,55 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String username;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        jwt = authHeader.substring(7);
-        username = jwtService.extractUsername(jwt);
+        // Signature and expiry are checked once here; everything below works off the verified claims
+        // Refresh tokens are only accepted by the refresh endpoint, never as Bearer credentials
+        Optional<VerifiedToken> verified = jwtService.verify(authHeader.substring(7))
+                .filter(token -> !token.isRefreshToken());
+        String username = verified.map(VerifiedToken::getSubject).orElse(null);
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-            
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                    userDetails,
-                    null,
-                    userDetails.getAuthorities()
-                );
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-                
-                // Set the currentUserId attribute if userDetails is our custom implementation
-                if (userDetails instanceof UserDetailsImpl) {
-                    request.setAttribute("currentUserId", ((UserDetailsImpl) userDetails).getId());
-                }
+            UserDetails userDetails = loadPrincipal(verified.get());
+            if (userDetails == null) {
+                // Token was revoked by a role change or account deletion
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                userDetails.getAuthorities()
+            );
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+
+            // Set the currentUserId attribute if userDetails is our custom implementation
+            if (userDetails instanceof UserDetailsImpl) {
+                request.setAttribute("currentUserId", ((UserDetailsImpl) userDetails).getId());
             }
         }
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails loadPrincipal(VerifiedToken token) {
+        String userId = token.getClaim(JwtService.USER_ID_CLAIM, String.class);
+        if (!jwtService.isStatelessPrincipal() || userId == null) {
+            return userDetailsService.loadUserByUsername(token.getSubject());
+        }
+
+        // Stateless mode: everything needed is in the signed claims, only the version is checked
+        UUID id = UUID.fromString(userId);
+        Long tokenVersion = token.getClaim(JwtService.TOKEN_VERSION_CLAIM, Long.class);
+        if (tokenVersion == null || !tokenVersionRegistry.isCurrent(id, tokenVersion)) {
+            return null;
+        }
+        UserRole role = UserRole.valueOf(token.getClaim(JwtService.ROLE_CLAIM, String.class));
+        return new UserDetailsImpl(id, token.getSubject(), role);
+    }
 }
@@ -44,13 +44,18 @@ public class SecurityConfig {
                 // Public GDPR article endpoints
                 .requestMatchers(
                     "/api/gdpr",
+                    "/api/gdpr/summary",
                     "/api/gdpr/{id}",
+                    "/api/gdpr/{id}/references",
                     "/api/gdpr/search",
+                    "/api/gdpr/search/fulltext",
+                    "/api/gdpr/suggest",
+                    "/api/gdpr/keywords",
                     "/api/gdpr/number/{articleNumber}"
                 ).permitAll()
                 
                 // User registration endpoint
-                .requestMatchers("/api/users/register", "/api/users/login", "/api/users").permitAll()
+                .requestMatchers("/api/users/register", "/api/users/login", "/api/users/refresh", "/api/users").permitAll()
                 .requestMatchers("/api/users/login").permitAll()
                 
                 // Protected endpoints requiring authentication
@@ -1,42 +1,130 @@
 package com.project.gdpr.controller;
 
 import com.project.gdpr.dto.*;
+import com.project.gdpr.search.KeywordFacets;
+import com.project.gdpr.service.ArticleImportService;
+import com.project.gdpr.service.CacheValidators;
+import com.project.gdpr.service.EncodedCatalog;
 import com.project.gdpr.service.GdprArticleService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/gdpr")
 @RequiredArgsConstructor
 public class GdprArticleController {
     private final GdprArticleService gdprArticleService;
+    private final ArticleImportService articleImportService;
 
+    @Value("${application.gdpr.cache.max-age:60s}")
+    private Duration cacheMaxAge;
+
+    // Body is a List<GdprArticleDto>, serialized and compressed once per catalog version for anonymous requests
     @GetMapping
-    public ResponseEntity<List<GdprArticleDto>> getAllArticles() {
-        return ResponseEntity.ok(gdprArticleService.getAllArticles());
+    public ResponseEntity<?> getAllArticles(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestAttribute(required = false) UUID currentUserId,
+            WebRequest request) {
+        if (currentUserId != null) {
+            return listing(request, currentUserId,
+                    () -> gdprArticleService.withSavedFlags(gdprArticleService.getAllArticles(), currentUserId));
+        }
+        return precompressed(request, gdprArticleService.getCatalogValidators(),
+                () -> gdprArticleService.getEncodedArticles(acceptEncoding));
+    }
+
+    // Body is a List<GdprArticleSummaryDto>
+    @GetMapping("/summary")
+    public ResponseEntity<?> getArticleSummaries(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestAttribute(required = false) UUID currentUserId,
+            WebRequest request) {
+        if (currentUserId != null) {
+            return listing(request, currentUserId, () -> gdprArticleService.getArticleSummaries(currentUserId));
+        }
+        return precompressed(request, gdprArticleService.getCatalogValidators(),
+                () -> gdprArticleService.getEncodedArticleSummaries(acceptEncoding));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<GdprArticleDto> getArticle(@PathVariable UUID id) {
-        return ResponseEntity.ok(gdprArticleService.getArticleById(id));
+    public ResponseEntity<GdprArticleDto> getArticle(@PathVariable UUID id, WebRequest request) {
+        return conditional(request, gdprArticleService.getArticleValidators(id), () -> gdprArticleService.getArticleById(id));
+    }
+
+    // Inbound links depend on other articles, so this revalidates against the whole catalog
+    @GetMapping("/{id}/references")
+    public ResponseEntity<ArticleReferencesDto> getArticleReferences(@PathVariable UUID id, WebRequest request) {
+        return conditional(request, gdprArticleService.getCatalogValidators(),
+                () -> gdprArticleService.getArticleReferences(id));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<GdprArticleDto>> searchArticles(@RequestParam(required = false) String searchTerm) {
-        if (searchTerm == null || searchTerm.trim().isEmpty()) {
-            return ResponseEntity.ok(gdprArticleService.getAllArticles());
+    public ResponseEntity<List<GdprArticleDto>> searchArticles(
+            @RequestParam(required = false) String searchTerm,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) List<String> keywords,
+            @RequestParam(defaultValue = "ALL") KeywordFacets.Match match,
+            @RequestAttribute(required = false) UUID currentUserId,
+            WebRequest request) {
+        if ((searchTerm == null || searchTerm.trim().isEmpty()) && keywords == null) {
+            return listing(request, currentUserId,
+                    () -> gdprArticleService.withSavedFlags(gdprArticleService.getAllArticles(), currentUserId));
         }
-        return ResponseEntity.ok(gdprArticleService.searchArticles(searchTerm));
+        return listing(request, currentUserId, () -> gdprArticleService.withSavedFlags(
+                gdprArticleService.searchArticles(searchTerm, limit, keywords, match), currentUserId));
     }
+
+    // Counts within the articles matching the given keywords, for drilling down; every keyword if none given
+    @GetMapping("/keywords")
+    public ResponseEntity<List<KeywordFacetDto>> getKeywordFacets(
+            @RequestParam(required = false) List<String> keywords,
+            @RequestParam(defaultValue = "ALL") KeywordFacets.Match match,
+            WebRequest request) {
+        return conditional(request, gdprArticleService.getCatalogValidators(),
+                () -> gdprArticleService.getKeywordFacets(keywords, match));
+    }
+
+    @GetMapping("/search/fulltext")
+    public ResponseEntity<List<ArticleSearchResultDto>> searchArticlesFullText(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "50") int limit) {
+        if (query.trim().isEmpty()) {
+            return ResponseEntity.ok(List.of());
+        }
+        return ResponseEntity.ok(gdprArticleService.searchArticlesFullText(query, limit));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ArticleSuggestionDto>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit,
+            WebRequest request) {
+        return conditional(request, gdprArticleService.getCatalogValidators(),
+                () -> gdprArticleService.suggest(prefix, limit));
+    }
+
     @GetMapping("/number/{articleNumber}")
-    public ResponseEntity<List<GdprArticleDto>> getArticlesByNumber(@PathVariable String articleNumber) {
-        return ResponseEntity.ok(gdprArticleService.getArticlesByNumber(articleNumber));
+    public ResponseEntity<List<GdprArticleDto>> getArticlesByNumber(
+            @PathVariable String articleNumber,
+            @RequestAttribute(required = false) UUID currentUserId,
+            WebRequest request) {
+        return listing(request, currentUserId, () -> gdprArticleService.withSavedFlags(
+                gdprArticleService.getArticlesByNumber(articleNumber), currentUserId));
     }
 
     @PostMapping("/saved/{articleId}")
@@ -47,11 +135,32 @@ public class GdprArticleController {
         return ResponseEntity.ok(gdprArticleService.saveArticleForUser(articleId, currentUserId));
     }
 
+    @PostMapping("/saved/batch")
+    @PreAuthorize("hasAnyRole('ADMIN', 'EDITOR', 'VIEWER')")
+    public ResponseEntity<SavedArticleBatchResultDto> saveArticles(
+            @Valid @RequestBody SavedArticleBatchDto batch,
+            @RequestAttribute UUID currentUserId) {
+        return ResponseEntity.ok(gdprArticleService.saveArticlesForUser(batch.getArticleIds(), currentUserId));
+    }
+
+    @DeleteMapping("/saved/batch")
+    @PreAuthorize("hasAnyRole('ADMIN', 'EDITOR', 'VIEWER')")
+    public ResponseEntity<SavedArticleBatchResultDto> removeSavedArticles(
+            @Valid @RequestBody SavedArticleBatchDto batch,
+            @RequestAttribute UUID currentUserId) {
+        return ResponseEntity.ok(gdprArticleService.removeSavedArticlesForUser(batch.getArticleIds(), currentUserId));
+    }
+
     @GetMapping("/saved")
     public ResponseEntity<List<SavedArticleDto>> getSavedArticles(@RequestAttribute UUID currentUserId) {
         return ResponseEntity.ok(gdprArticleService.getUserSavedArticles(currentUserId));
     }
 
+    @GetMapping("/saved/summary")
+    public ResponseEntity<List<SavedArticleSummaryDto>> getSavedArticleSummaries(@RequestAttribute UUID currentUserId) {
+        return ResponseEntity.ok(gdprArticleService.getUserSavedArticleSummaries(currentUserId));
+    }
+
     @DeleteMapping("/saved/{savedArticleId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'EDITOR', 'VIEWER')")
     public ResponseEntity<Void> removeSavedArticle(
@@ -67,6 +176,13 @@ public class GdprArticleController {
         return ResponseEntity.ok(gdprArticleService.createArticle(articleDto));
     }
 
+    // Body is a JSON array of articles or one article per line (NDJSON), read as a stream
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ArticleImportResultDto> importArticles(InputStream body) {
+        return ResponseEntity.ok(articleImportService.importArticles(body));
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<GdprArticleDto> updateArticle(
@@ -81,4 +197,47 @@ public class GdprArticleController {
         gdprArticleService.deleteArticle(id);
         return ResponseEntity.noContent().build();
     }
+
+    // Answers 304 from the validators alone; the body is only produced (and serialized) when it changed.
+    // checkNotModified also writes the ETag and Last-Modified headers.
+    private <T> ResponseEntity<T> conditional(WebRequest request, CacheValidators validators, Supplier<T> body) {
+        CacheControl cacheControl = CacheControl.maxAge(cacheMaxAge).cachePublic();
+        if (request.checkNotModified(validators.eTag(), validators.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl).body(body.get());
+    }
+
+    // Anonymous requests share the public representation. A signed-in user's copy carries saved flags, so it
+    // is private and revalidated on every use; Vary keeps shared caches from serving one in place of the other.
+    private <T> ResponseEntity<T> listing(WebRequest request, UUID userId, Supplier<T> body) {
+        CacheValidators validators = userId == null ? gdprArticleService.getCatalogValidators()
+                : gdprArticleService.getCatalogValidators(userId);
+        CacheControl cacheControl = userId == null ? CacheControl.maxAge(cacheMaxAge).cachePublic()
+                : CacheControl.noCache().cachePrivate();
+        if (request.checkNotModified(validators.eTag(), validators.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.AUTHORIZATION).build();
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl).varyBy(HttpHeaders.AUTHORIZATION).body(body.get());
+    }
+
+    private ResponseEntity<byte[]> precompressed(WebRequest request, CacheValidators validators,
+                                                 Supplier<EncodedCatalog.Variant> body) {
+        CacheControl cacheControl = CacheControl.maxAge(cacheMaxAge).cachePublic();
+        if (request.checkNotModified(validators.eTag(), validators.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING, HttpHeaders.AUTHORIZATION).build();
+        }
+        EncodedCatalog.Variant variant = body.get();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING, HttpHeaders.AUTHORIZATION)
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(variant.body().length);
+        if (variant.contentEncoding() != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, variant.contentEncoding());
+        }
+        return response.body(variant.body());
+    }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.project.gdpr.controller;
 
 import com.project.gdpr.dto.*;
 import com.project.gdpr.entity.TaskStatus;
+import com.project.gdpr.service.TaskCursor;
 import com.project.gdpr.service.TaskService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -20,8 +21,11 @@ public class TaskController {
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'EDITOR', 'VIEWER')")
-    public ResponseEntity<List<TaskDto>> getAllTasks() {
-        return ResponseEntity.ok(taskService.getAllTasks());
+    public ResponseEntity<TaskPageDto> getAllTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "CREATED_AT") TaskCursor.Sort sort) {
+        return ResponseEntity.ok(taskService.getAllTasks(sort, cursor, size));
     }
 
 
@@ -33,6 +37,38 @@ public class TaskController {
         return ResponseEntity.ok(taskService.createTask(taskDto, currentUserId));
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyRole('ADMIN', 'EDITOR', 'VIEWER')")
+    public ResponseEntity<TaskBatchResultDto> createTasks(
+            @Valid @RequestBody TaskBatchCreateDto batch,
+            @RequestAttribute UUID currentUserId) {
+        return ResponseEntity.ok(taskService.createTasks(batch.getTasks(), currentUserId));
+    }
+
+    @PutMapping("/batch/status")
+    @PreAuthorize("hasAnyRole('ADMIN', 'EDITOR', 'VIEWER')")
+    public ResponseEntity<TaskBatchResultDto> updateTasksStatus(
+            @Valid @RequestBody TaskBatchStatusDto batch,
+            @RequestAttribute UUID currentUserId) {
+        return ResponseEntity.ok(taskService.updateTasksStatus(batch.getTaskIds(), batch.getStatus(), currentUserId));
+    }
+
+    @PutMapping("/batch/assignee")
+    @PreAuthorize("hasAnyRole('ADMIN', 'EDITOR', 'VIEWER')")
+    public ResponseEntity<TaskBatchResultDto> reassignTasks(
+            @Valid @RequestBody TaskBatchAssignDto batch,
+            @RequestAttribute UUID currentUserId) {
+        return ResponseEntity.ok(taskService.reassignTasks(batch.getTaskIds(), batch.getAssigneeId(), currentUserId));
+    }
+
+    @DeleteMapping("/batch")
+    @PreAuthorize("hasAnyRole('ADMIN', 'EDITOR')")
+    public ResponseEntity<TaskBatchResultDto> deleteTasks(
+            @Valid @RequestBody TaskBatchDeleteDto batch,
+            @RequestAttribute UUID currentUserId) {
+        return ResponseEntity.ok(taskService.deleteTasks(batch.getTaskIds(), currentUserId));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'EDITOR', 'VIEWER')")
     public ResponseEntity<TaskDto> getTask(@PathVariable UUID id) {
@@ -41,14 +77,22 @@ public class TaskController {
 
     @GetMapping("/assignee/{assigneeId}")
     @PreAuthorize("hasRole('ADMIN') or @userSecurity.isCurrentUser(#assigneeId)")
-    public ResponseEntity<List<TaskDto>> getTasksByAssignee(@PathVariable UUID assigneeId) {
-        return ResponseEntity.ok(taskService.getTasksByAssignee(assigneeId));
+    public ResponseEntity<TaskPageDto> getTasksByAssignee(
+            @PathVariable UUID assigneeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "CREATED_AT") TaskCursor.Sort sort) {
+        return ResponseEntity.ok(taskService.getTasksByAssignee(assigneeId, sort, cursor, size));
     }
 
     @GetMapping("/creator/{creatorId}")
     @PreAuthorize("hasRole('ADMIN') or @userSecurity.isCurrentUser(#creatorId)")
-    public ResponseEntity<List<TaskDto>> getTasksByCreator(@PathVariable UUID creatorId) {
-        return ResponseEntity.ok(taskService.getTasksByCreator(creatorId));
+    public ResponseEntity<TaskPageDto> getTasksByCreator(
+            @PathVariable UUID creatorId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "CREATED_AT") TaskCursor.Sort sort) {
+        return ResponseEntity.ok(taskService.getTasksByCreator(creatorId, sort, cursor, size));
     }
 
     @PutMapping("/{id}/status")
@@ -80,12 +124,32 @@ public class TaskController {
 
     @GetMapping("/search")
     @PreAuthorize("hasAnyRole('ADMIN', 'EDITOR', 'VIEWER')")
-    public ResponseEntity<List<TaskDto>> searchTasks(
+    public ResponseEntity<TaskPageDto> searchTasks(
         @RequestParam(required = false, defaultValue = "") String searchTerm,
         @RequestParam(required = false, defaultValue = "ALL") String status,
-        @RequestParam(required = false, defaultValue = "ALL") String priority
+        @RequestParam(required = false, defaultValue = "ALL") String priority,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "50") int size,
+        @RequestParam(defaultValue = "CREATED_AT") TaskCursor.Sort sort
      ) {
-        return ResponseEntity.ok(taskService.searchTasks(searchTerm, status, priority));
+        return ResponseEntity.ok(taskService.searchTasks(searchTerm, status, priority, sort, cursor, size));
+    }
+
+    @GetMapping("/stats")
+    @PreAuthorize("hasAnyRole('ADMIN', 'EDITOR', 'VIEWER')")
+    public ResponseEntity<TaskStatsDto> getTaskStats() {
+        return ResponseEntity.ok(taskService.getTaskStats());
+    }
+
+    // e.g. /filter?status=OPEN,IN_PROGRESS&priority=HIGH&dueTo=2025-07-01T00:00:00&text=vendor
+    @GetMapping("/filter")
+    @PreAuthorize("hasAnyRole('ADMIN', 'EDITOR', 'VIEWER')")
+    public ResponseEntity<TaskPageDto> filterTasks(
+            @ModelAttribute TaskFilterDto filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "CREATED_AT") TaskCursor.Sort sort) {
+        return ResponseEntity.ok(taskService.filterTasks(filter, sort, cursor, size));
     }
 
     @PostMapping("/{taskId}/comments")
@@ -1,6 +1,7 @@
 package com.project.gdpr.controller;
 
 import com.project.gdpr.dto.*;
+import com.project.gdpr.security.LoginRateLimiter;
 import com.project.gdpr.service.UserService;
 import com.project.gdpr.entity.UserRole;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
@@ -24,17 +26,28 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class UserController {
     private final UserService userService;
+    private final LoginRateLimiter loginRateLimiter;
 
     @PostMapping("/register")
-    public ResponseEntity<UserDto> registerUser(@Valid @RequestBody UserRegistrationDto registrationDto) {
+    public ResponseEntity<UserDto> registerUser(
+            @Valid @RequestBody UserRegistrationDto registrationDto,
+            HttpServletRequest request) {
+        loginRateLimiter.checkRegistration(request.getRemoteAddr());
         return ResponseEntity.ok(userService.createUser(registrationDto));
     }
 
     @PostMapping("/login")
-    public ResponseEntity<JwtResponseDto> login(@Valid @RequestBody LoginDto loginDto) {
+    public ResponseEntity<JwtResponseDto> login(@Valid @RequestBody LoginDto loginDto, HttpServletRequest request) {
+        // Rejected before any BCrypt work is queued
+        loginRateLimiter.checkLogin(request.getRemoteAddr(), loginDto.getEmail());
         return ResponseEntity.ok(userService.login(loginDto));
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<JwtResponseDto> refresh(@Valid @RequestBody RefreshTokenRequestDto refreshDto) {
+        return ResponseEntity.ok(userService.refresh(refreshDto.getRefreshToken()));
+    }
+
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'EDITOR', 'VIEWER') or @userSecurity.isCurrentUser(#id)")
@@ -0,0 +1,14 @@
+package com.project.gdpr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleImportResultDto {
+    // Records read from the request; a number repeated within the import counts once per occurrence
+    private int received;
+    private int batches;
+}
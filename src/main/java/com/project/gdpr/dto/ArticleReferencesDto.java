@@ -0,0 +1,17 @@
+package com.project.gdpr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleReferencesDto {
+    private UUID articleId;
+    // Articles this one cites, and articles citing it, in article number order
+    private List<GdprArticleSummaryDto> references;
+    private List<GdprArticleSummaryDto> referencedBy;
+}
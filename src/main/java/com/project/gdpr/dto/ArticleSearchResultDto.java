@@ -0,0 +1,15 @@
+package com.project.gdpr.dto;
+
+import lombok.Data;
+import java.util.UUID;
+
+@Data
+public class ArticleSearchResultDto {
+    private UUID id;
+    private String articleNumber;
+    private String title;
+    private String[] keywords;
+    private double rank;
+    // Content excerpt with matches wrapped in <mark></mark>
+    private String snippet;
+}
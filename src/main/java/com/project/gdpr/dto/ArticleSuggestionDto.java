@@ -0,0 +1,18 @@
+package com.project.gdpr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleSuggestionDto {
+    public enum Kind { ARTICLE_NUMBER, TITLE, KEYWORD }
+
+    private String text;
+    private Kind kind;
+    // Article to open; null for a keyword used by several articles
+    private UUID articleId;
+}
@@ -1,6 +1,8 @@
 package com.project.gdpr.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Data
@@ -10,4 +12,9 @@ public class GdprArticleDto {
     private String title;
     private String content;
     private String[] keywords;
+    private LocalDateTime updatedAt;
+
+    // Set only in responses to an authenticated user: whether that user has saved the article
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean saved;
 }
\ No newline at end of file
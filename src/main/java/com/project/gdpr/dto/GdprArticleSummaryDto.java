@@ -0,0 +1,22 @@
+package com.project.gdpr.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.UUID;
+
+// List view of an article: everything but the content
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GdprArticleSummaryDto {
+    private UUID id;
+    private String articleNumber;
+    private String title;
+    private String[] keywords;
+
+    // Same as GdprArticleDto.saved
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean saved;
+}
@@ -5,5 +5,6 @@ import lombok.Data;
 @Data
 public class JwtResponseDto {
     private String token;
+    private String refreshToken;
     private UserDto user;
 }
\ No newline at end of file
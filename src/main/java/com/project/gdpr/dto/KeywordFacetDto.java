@@ -0,0 +1,13 @@
+package com.project.gdpr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeywordFacetDto {
+    private String keyword;
+    private int count;
+}
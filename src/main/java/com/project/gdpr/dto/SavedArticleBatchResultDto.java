@@ -0,0 +1,18 @@
+package com.project.gdpr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedArticleBatchResultDto {
+    // Articles whose saved state this request changed
+    private List<UUID> updated;
+    // Articles that were already saved (for a save) or not saved (for a removal)
+    private List<UUID> unchanged;
+    private List<UUID> notFound;
+}
@@ -0,0 +1,20 @@
+package com.project.gdpr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.UUID;
+import java.time.LocalDateTime;
+
+// Filled by a JPQL constructor expression, so the article content column is never read
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedArticleSummaryDto {
+    private UUID id;
+    private UUID articleId;
+    private String articleNumber;
+    private String title;
+    private String[] keywords;
+    private LocalDateTime savedAt;
+}
@@ -0,0 +1,14 @@
+package com.project.gdpr.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class TaskBatchCreateDto {
+    @NotEmpty
+    @Size(max = 500)
+    private List<@Valid TaskCreateDto> tasks;
+}
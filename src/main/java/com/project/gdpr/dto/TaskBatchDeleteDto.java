@@ -0,0 +1,14 @@
+package com.project.gdpr.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class TaskBatchDeleteDto {
+    @NotEmpty
+    @Size(max = 500)
+    private List<UUID> taskIds;
+}
@@ -0,0 +1,23 @@
+package com.project.gdpr.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskBatchItemDto {
+    public enum Outcome {
+        CREATED, UPDATED, UNCHANGED, DELETED, NOT_FOUND, FORBIDDEN
+    }
+
+    // Position in the request, for creates; the other operations are keyed by taskId
+    private Integer index;
+    private UUID taskId;
+    private Outcome outcome;
+    private String message;
+}
@@ -0,0 +1,14 @@
+package com.project.gdpr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchResultDto {
+    // One entry per requested task, in request order; repeated task ids are reported once
+    private List<TaskBatchItemDto> results;
+}
@@ -0,0 +1,19 @@
+package com.project.gdpr.dto;
+
+import com.project.gdpr.entity.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class TaskBatchStatusDto {
+    @NotEmpty
+    @Size(max = 500)
+    private List<UUID> taskIds;
+
+    @NotNull(message = "Status is required")
+    private TaskStatus status;
+}
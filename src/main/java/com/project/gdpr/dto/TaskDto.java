@@ -1,12 +1,17 @@
 package com.project.gdpr.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import com.project.gdpr.entity.Priority;
 import com.project.gdpr.entity.TaskStatus;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+// Also filled directly by the task read queries (TaskRepository.findDtoById, TaskRepositoryCustom)
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class TaskDto {
     private UUID id;
     private UUID creatorId;
@@ -0,0 +1,25 @@
+package com.project.gdpr.dto;
+
+import com.project.gdpr.entity.Priority;
+import com.project.gdpr.entity.TaskStatus;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+// Bound from query parameters; anything left out does not constrain the listing
+@Data
+public class TaskFilterDto {
+    private UUID assigneeId;
+    private UUID creatorId;
+    private Set<TaskStatus> status;
+    private Set<Priority> priority;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;
+    private boolean overdue;
+    private String text;
+}
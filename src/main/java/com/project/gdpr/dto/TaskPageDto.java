@@ -0,0 +1,15 @@
+package com.project.gdpr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageDto {
+    private List<TaskDto> items;
+    // Pass back as ?cursor= (with the same sort) for the next page; null on the last page
+    private String nextCursor;
+}
@@ -0,0 +1,23 @@
+package com.project.gdpr.dto;
+
+import com.project.gdpr.entity.Priority;
+import com.project.gdpr.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsDto {
+    private long total;
+    private Map<TaskStatus, Long> byStatus;
+    private Map<Priority, Long> byPriority;
+    private Map<UUID, Long> byAssignee;
+    private long unassigned;
+    // Not closed and due before now
+    private long overdue;
+}
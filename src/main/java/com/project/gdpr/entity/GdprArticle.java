@@ -2,6 +2,7 @@ package com.project.gdpr.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.Length;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -23,6 +24,8 @@ public class GdprArticle {
     @Column(nullable = false)
     private String title;
 
+    // TEXT in the schema; the generated search_vector column (V8) depends on it
+    @Column(length = Length.LONG32)
     private String content;
 
     @JdbcTypeCode(SqlTypes.ARRAY)
@@ -42,6 +42,9 @@ public class User implements UserDetails {
     @JdbcTypeCode(SqlTypes.VARCHAR)
     private UserRole role;
 
+    @Column(name = "token_version", nullable = false)
+    private long tokenVersion;
+
     @Column(name = "created_at", insertable = false, updatable = false)
     private LocalDateTime createdAt;
 
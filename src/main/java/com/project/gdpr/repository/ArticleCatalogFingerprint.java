@@ -0,0 +1,9 @@
+package com.project.gdpr.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cheap summary of the article table, used to detect changes made by other application nodes.
+ */
+public record ArticleCatalogFingerprint(Long count, LocalDateTime lastUpdated) {
+}
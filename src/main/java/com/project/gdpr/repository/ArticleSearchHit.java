@@ -0,0 +1,14 @@
+package com.project.gdpr.repository;
+
+import java.util.UUID;
+
+/**
+ * Row of the full-text article search; everything else about the article comes from the catalog.
+ */
+public interface ArticleSearchHit {
+    UUID getId();
+
+    Double getRank();
+
+    String getSnippet();
+}
@@ -0,0 +1,9 @@
+package com.project.gdpr.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Number of open tasks due at one instant.
+ */
+public record DueDateCount(LocalDateTime dueDate, Long tasks) {
+}
@@ -3,6 +3,7 @@ package com.project.gdpr.repository;
 import com.project.gdpr.entity.GdprArticle;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.UUID;
@@ -10,11 +11,25 @@ import java.util.UUID;
 @Repository
 public interface GDPRArticleRepository extends JpaRepository<GdprArticle, UUID> {
     List<GdprArticle> findByArticleNumber(String articleNumber);
-    
-    @Query(value = "SELECT * FROM gdprarticles g WHERE " +
-       "LOWER(g.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-       "LOWER(g.content) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-       "EXISTS (SELECT 1 FROM unnest(g.keywords) k WHERE LOWER(k) LIKE LOWER(CONCAT('%', :searchTerm, '%')))", 
-       nativeQuery = true)
-    List<GdprArticle> searchArticles(String searchTerm);
+
+    boolean existsByArticleNumber(String articleNumber);
+
+    boolean existsByArticleNumberAndIdNot(String articleNumber, UUID id);
+
+    @Query("SELECT new com.project.gdpr.repository.ArticleCatalogFingerprint(COUNT(g), MAX(g.updatedAt)) " +
+           "FROM GdprArticle g")
+    ArticleCatalogFingerprint fingerprint();
+
+    // Ranks on the GIN-indexed search_vector (V8); headlines are only built for the rows that are returned
+    @Query(value = "SELECT h.id AS id, h.rank AS rank, " +
+           "ts_headline('english', COALESCE(g.content, ''), h.query, " +
+           "'MaxFragments=2, MaxWords=30, MinWords=10, StartSel=<mark>, StopSel=</mark>') AS snippet " +
+           "FROM (SELECT a.id, a.article_number, ts_rank_cd(a.search_vector, q.query)::float8 AS rank, q.query " +
+           "      FROM gdprarticles a CROSS JOIN websearch_to_tsquery('english', :query) AS q(query) " +
+           "      WHERE a.search_vector @@ q.query " +
+           "      ORDER BY rank DESC, a.article_number LIMIT :limit) h " +
+           "JOIN gdprarticles g ON g.id = h.id " +
+           "ORDER BY h.rank DESC, h.article_number",
+           nativeQuery = true)
+    List<ArticleSearchHit> searchFullText(@Param("query") String query, @Param("limit") int limit);
 }
\ No newline at end of file
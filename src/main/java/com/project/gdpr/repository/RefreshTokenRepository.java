@@ -0,0 +1,32 @@
+package com.project.gdpr.repository;
+
+import com.project.gdpr.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+    @Query("SELECT r FROM RefreshToken r " +
+           "JOIN FETCH r.user " +
+           "WHERE r.id = :id")
+    Optional<RefreshToken> findByIdWithUser(UUID id);
+
+    // Conditional so that two concurrent refreshes with the same token cannot both succeed
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.usedAt = :usedAt " +
+           "WHERE r.id = :id AND r.usedAt IS NULL AND r.revoked = false")
+    int markUsed(UUID id, LocalDateTime usedAt);
+
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.familyId = :familyId")
+    int revokeFamily(UUID familyId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+}
@@ -0,0 +1,10 @@
+package com.project.gdpr.repository;
+
+import java.util.UUID;
+
+// Row returned by the saved_articles insert and delete statements (RETURNING id, article_id)
+public interface SavedArticleKey {
+    UUID getId();
+
+    UUID getArticleId();
+}
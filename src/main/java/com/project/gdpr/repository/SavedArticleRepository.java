@@ -1,9 +1,13 @@
 package com.project.gdpr.repository;
 
+import com.project.gdpr.dto.SavedArticleSummaryDto;
 import com.project.gdpr.entity.SavedArticle;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,5 +17,35 @@ public interface SavedArticleRepository extends JpaRepository<SavedArticle, UUID
            "JOIN FETCH sa.article " +
            "WHERE sa.user.id = :userId")
     List<SavedArticle> findByUserId(UUID userId);
-    boolean existsByUserIdAndArticleId(UUID userId, UUID articleId);
+
+    @Query("SELECT new com.project.gdpr.dto.SavedArticleSummaryDto(" +
+           "sa.id, a.id, a.articleNumber, a.title, a.keywords, sa.savedAt) " +
+           "FROM SavedArticle sa JOIN sa.article a " +
+           "WHERE sa.user.id = :userId")
+    List<SavedArticleSummaryDto> findSummariesByUserId(UUID userId);
+
+    // Reads only the saved_articles rows; article_id is the foreign key column, so there is no join
+    @Query("SELECT sa.article.id FROM SavedArticle sa WHERE sa.user.id = :userId")
+    List<UUID> findArticleIdsByUserId(@Param("userId") UUID userId);
+
+    // One statement per call: pairs that are already saved (uq_saved_articles_user_article) and articles
+    // that no longer exist are skipped rather than failing, and only the inserted rows are returned
+    @Query(value = "INSERT INTO saved_articles (user_id, article_id, saved_at) " +
+           "SELECT :userId, a.id, :savedAt FROM gdprarticles a WHERE a.id IN (:articleIds) " +
+           "ON CONFLICT (user_id, article_id) DO NOTHING " +
+           "RETURNING id AS id, article_id AS \"articleId\"",
+           nativeQuery = true)
+    List<SavedArticleKey> insertIfAbsent(@Param("userId") UUID userId, @Param("articleIds") Collection<UUID> articleIds,
+                                         @Param("savedAt") LocalDateTime savedAt);
+
+    @Query(value = "DELETE FROM saved_articles WHERE user_id = :userId AND article_id IN (:articleIds) " +
+           "RETURNING id AS id, article_id AS \"articleId\"",
+           nativeQuery = true)
+    List<SavedArticleKey> deleteByUserIdAndArticleIds(@Param("userId") UUID userId,
+                                                      @Param("articleIds") Collection<UUID> articleIds);
+
+    @Query(value = "DELETE FROM saved_articles WHERE id = :id AND user_id = :userId " +
+           "RETURNING id AS id, article_id AS \"articleId\"",
+           nativeQuery = true)
+    List<SavedArticleKey> deleteByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
 }
\ No newline at end of file
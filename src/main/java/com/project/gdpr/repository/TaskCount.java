@@ -0,0 +1,12 @@
+package com.project.gdpr.repository;
+
+import com.project.gdpr.entity.Priority;
+import com.project.gdpr.entity.TaskStatus;
+
+import java.util.UUID;
+
+/**
+ * Number of tasks sharing a status, priority and assignee (null for unassigned).
+ */
+public record TaskCount(TaskStatus status, Priority priority, UUID assigneeId, Long tasks) {
+}
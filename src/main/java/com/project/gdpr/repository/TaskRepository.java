@@ -1,31 +1,32 @@
 package com.project.gdpr.repository;
 
+import com.project.gdpr.dto.TaskDto;
 import com.project.gdpr.entity.Task;
-import com.project.gdpr.entity.TaskStatus;
-import com.project.gdpr.entity.Priority;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
-    List<Task> findByAssigneeId(UUID assigneeId);
-    List<Task> findByCreatorId(UUID creatorId);
-    
-    @Query("SELECT t FROM Task t WHERE " +
-   "(LOWER(t.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-   "LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND " +
-   "(:status IS NULL OR t.status = :status) AND " +
-   "(:priority IS NULL OR t.priority = :priority)")
-    List<Task> searchTasks(
-    @Param("searchTerm") String searchTerm, 
-    @Param("status") TaskStatus status, 
-    @Param("priority") Priority priority
-    );
-    
-    List<Task> findByStatus(String status);
-    List<Task> findByPriority(String priority);
-}
\ No newline at end of file
+// Listings are keyset-paged through TaskRepositoryCustom.findDtos with TaskSpecifications
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
+    // t.creator.id and t.assignee.id are the foreign key columns, so there is no join on users
+    @Query("SELECT new com.project.gdpr.dto.TaskDto(" +
+           "t.id, t.creator.id, t.assignee.id, t.title, t.description, t.priority, t.status, " +
+           "t.dueDate, t.createdAt, t.updatedAt) " +
+           "FROM Task t WHERE t.id = :id")
+    Optional<TaskDto> findDtoById(@Param("id") UUID id);
+
+    @Query("SELECT new com.project.gdpr.repository.TaskCount(t.status, t.priority, t.assignee.id, COUNT(t)) " +
+           "FROM Task t GROUP BY t.status, t.priority, t.assignee.id")
+    List<TaskCount> countByStatusPriorityAndAssignee();
+
+    @Query("SELECT new com.project.gdpr.repository.DueDateCount(t.dueDate, COUNT(t)) FROM Task t " +
+           "WHERE t.status <> com.project.gdpr.entity.TaskStatus.CLOSED AND t.dueDate IS NOT NULL " +
+           "GROUP BY t.dueDate")
+    List<DueDateCount> countOpenByDueDate();
+}
@@ -0,0 +1,17 @@
+package com.project.gdpr.repository;
+
+import com.project.gdpr.dto.TaskDto;
+import com.project.gdpr.entity.Task;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface TaskRepositoryCustom {
+    /**
+     * Up to {@code limit} tasks matching {@code spec} in {@code sort} order, selected straight into
+     * {@link TaskDto}. The creator and assignee ids come from the foreign key columns, so neither Task
+     * nor User entities are loaded and users is never joined.
+     */
+    List<TaskDto> findDtos(Specification<Task> spec, Sort sort, int limit);
+}
@@ -0,0 +1,40 @@
+package com.project.gdpr.repository;
+
+import com.project.gdpr.dto.TaskDto;
+import com.project.gdpr.entity.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskDto> findDtos(Specification<Task> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskDto> query = cb.createQuery(TaskDto.class);
+        Root<Task> task = query.from(Task.class);
+        query.select(cb.construct(TaskDto.class,
+                task.get("id"), task.get("creator").get("id"), task.get("assignee").get("id"),
+                task.get("title"), task.get("description"), task.get("priority"), task.get("status"),
+                task.get("dueDate"), task.get("createdAt"), task.get("updatedAt")));
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(task, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, task, cb));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.gdpr.repository;
+
+import com.project.gdpr.entity.Priority;
+import com.project.gdpr.entity.Task;
+import com.project.gdpr.entity.TaskStatus;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Predicates for task listings. Each listing combines only the ones it needs, so the generated SQL
+ * carries no "parameter IS NULL OR ..." branches for the planner to see through.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> assignedTo(UUID assigneeId) {
+        return (root, query, cb) -> cb.equal(root.get("assignee").get("id"), assigneeId);
+    }
+
+    public static Specification<Task> createdBy(UUID creatorId) {
+        return (root, query, cb) -> cb.equal(root.get("creator").get("id"), creatorId);
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> hasPriority(Priority priority) {
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Task> statusIn(Set<TaskStatus> statuses) {
+        return (root, query, cb) -> statuses.size() == 1
+                ? cb.equal(root.get("status"), statuses.iterator().next())
+                : root.get("status").in(statuses);
+    }
+
+    public static Specification<Task> priorityIn(Set<Priority> priorities) {
+        return (root, query, cb) -> priorities.size() == 1
+                ? cb.equal(root.get("priority"), priorities.iterator().next())
+                : root.get("priority").in(priorities);
+    }
+
+    public static Specification<Task> dueOnOrAfter(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), from);
+    }
+
+    public static Specification<Task> dueBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("dueDate"), to);
+    }
+
+    // ILIKE on the bare columns can use the trigram indexes from V9; pattern is an escaped '%term%' ('!' escapes)
+    public static Specification<Task> matches(String pattern) {
+        return (root, query, cb) -> {
+            HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+            return cb.or(hcb.ilike(root.get("title"), pattern, '!'), hcb.ilike(root.get("description"), pattern, '!'));
+        };
+    }
+
+    // Keyset conditions. Each repeats the bound on the leading column on its own, so the (…, id) index
+    // scan starts at the cursor instead of filtering its way there.
+
+    /** Rows after ({@code createdAt}, {@code id}) in created_at DESC, id DESC order. */
+    public static Specification<Task> createdBefore(LocalDateTime createdAt, UUID id) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("createdAt"), createdAt),
+                cb.or(cb.lessThan(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), id)));
+    }
+
+    /** Scheduled rows after ({@code dueDate}, {@code id}) in due_date, id order. */
+    public static Specification<Task> dueAfter(LocalDateTime dueDate, UUID id) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("dueDate"), dueDate),
+                cb.or(cb.greaterThan(root.get("dueDate"), dueDate), cb.greaterThan(root.get("id"), id)));
+    }
+
+    public static Specification<Task> scheduled() {
+        return (root, query, cb) -> cb.isNotNull(root.get("dueDate"));
+    }
+
+    public static Specification<Task> unscheduled() {
+        return (root, query, cb) -> cb.isNull(root.get("dueDate"));
+    }
+
+    public static Specification<Task> idAfter(UUID id) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), id);
+    }
+}
@@ -0,0 +1,488 @@
+package com.project.gdpr.search;
+
+import com.project.gdpr.dto.GdprArticleDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable BM25F index over the article catalog, addressed by catalog ordinal. Title, keywords and
+ * content are indexed as separate fields, each length-normalized against its own average and boosted
+ * before saturation. Updates copy only the postings of the terms the changed article touches.
+ */
+public final class ArticleSearchIndex {
+    private static final int TITLE = 0;
+    private static final int KEYWORDS = 1;
+    private static final int CONTENT = 2;
+    private static final int FIELDS = 3;
+    private static final double[] BOOSTS = {3.0, 2.0, 1.0};
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MAX_PREFIX_EXPANSIONS = 16;
+    private static final int MAX_FUZZY_EXPANSIONS = 8;
+    private static final Pattern PHRASE = Pattern.compile("\"([^\"]*)\"");
+    private static final ArticleSearchIndex EMPTY =
+            new ArticleSearchIndex(Map.of(), new Vocabulary(new String[0]), new Doc[0], 0, new long[FIELDS]);
+
+    private final Map<String, Postings> postings;
+    private final Vocabulary vocabulary;
+    private final Doc[] docs;
+    private final int docCount;
+    private final long[] fieldLengths;
+
+    private ArticleSearchIndex(Map<String, Postings> postings, Vocabulary vocabulary, Doc[] docs,
+                               int docCount, long[] fieldLengths) {
+        this.postings = postings;
+        this.vocabulary = vocabulary;
+        this.docs = docs;
+        this.docCount = docCount;
+        this.fieldLengths = fieldLengths;
+    }
+
+    public static ArticleSearchIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds the index for a catalog slot array; {@code null} slots are skipped.
+     */
+    public static ArticleSearchIndex build(GdprArticleDto[] articles) {
+        Doc[] docs = new Doc[articles.length];
+        Map<String, PostingsBuilder> builders = new HashMap<>();
+        int docCount = 0;
+        long[] fieldLengths = new long[FIELDS];
+        for (int ordinal = 0; ordinal < articles.length; ordinal++) {
+            if (articles[ordinal] == null) {
+                continue;
+            }
+            Doc doc = Doc.of(articles[ordinal]);
+            docs[ordinal] = doc;
+            docCount++;
+            doc.addLengthsTo(fieldLengths, 1);
+            for (Map.Entry<String, float[]> term : doc.termFrequencies().entrySet()) {
+                builders.computeIfAbsent(term.getKey(), key -> new PostingsBuilder()).add(ordinal, term.getValue());
+            }
+        }
+        Map<String, Postings> postings = new HashMap<>(builders.size() * 2);
+        builders.forEach((term, builder) -> postings.put(term, builder.build()));
+        return new ArticleSearchIndex(postings, new Vocabulary(sortedTerms(postings)), docs, docCount, fieldLengths);
+    }
+
+    /**
+     * Returns a new index in which {@code ordinal} holds {@code article}, replacing any previous entry.
+     */
+    public ArticleSearchIndex with(int ordinal, GdprArticleDto article) {
+        Doc doc = Doc.of(article);
+        Map<String, Postings> copy = new HashMap<>(postings);
+        Doc[] docsCopy = Arrays.copyOf(docs, Math.max(docs.length, ordinal + 1));
+        int count = docCount;
+        long[] lengths = fieldLengths.clone();
+
+        Doc previous = ordinal < docs.length ? docs[ordinal] : null;
+        if (previous != null) {
+            removeTerms(copy, previous, ordinal);
+            count--;
+            previous.addLengthsTo(lengths, -1);
+        }
+        for (Map.Entry<String, float[]> term : doc.termFrequencies().entrySet()) {
+            Postings existing = copy.get(term.getKey());
+            copy.put(term.getKey(), existing == null
+                    ? new Postings(new int[]{ordinal}, term.getValue())
+                    : existing.with(ordinal, term.getValue()));
+        }
+        docsCopy[ordinal] = doc;
+        doc.addLengthsTo(lengths, 1);
+        return new ArticleSearchIndex(copy, vocabularyFor(copy), docsCopy, count + 1, lengths);
+    }
+
+    public ArticleSearchIndex without(int ordinal) {
+        Doc previous = ordinal < docs.length ? docs[ordinal] : null;
+        if (previous == null) {
+            return this;
+        }
+        Map<String, Postings> copy = new HashMap<>(postings);
+        removeTerms(copy, previous, ordinal);
+        Doc[] docsCopy = docs.clone();
+        docsCopy[ordinal] = null;
+        long[] lengths = fieldLengths.clone();
+        previous.addLengthsTo(lengths, -1);
+        return new ArticleSearchIndex(copy, vocabularyFor(copy), docsCopy, docCount - 1, lengths);
+    }
+
+    /**
+     * Ranks documents against {@code query}. Bare words must all match (falling back to any word
+     * when no document has every one). A word that is not in the vocabulary matches as a prefix,
+     * or failing that as its nearest vocabulary terms by edit distance, at a reduced weight.
+     * Quoted phrases must appear as consecutive terms within one field.
+     */
+    public List<Hit> search(String query, int limit) {
+        return search(query, limit, null);
+    }
+
+    /**
+     * As {@link #search(String, int)}, restricted to the ordinals set in {@code filter} when it is not null.
+     */
+    public List<Hit> search(String query, int limit, BitSet filter) {
+        if (query == null || limit <= 0 || docCount == 0) {
+            return List.of();
+        }
+        List<List<String>> phrases = new ArrayList<>();
+        List<Clause> clauses = new ArrayList<>();
+        Matcher matcher = PHRASE.matcher(query);
+        while (matcher.find()) {
+            List<String> phrase = TextAnalyzer.analyze(matcher.group(1));
+            if (!phrase.isEmpty()) {
+                phrases.add(phrase);
+                phrase.forEach(term -> clauses.add(Clause.exact(term)));
+            }
+        }
+        for (String term : TextAnalyzer.analyze(matcher.replaceAll(" "))) {
+            clauses.add(expand(term));
+        }
+        if (clauses.isEmpty()) {
+            return List.of();
+        }
+
+        double[] scores = new double[docs.length];
+        int[] matchedClauses = new int[docs.length];
+        int[] lastClause = new int[docs.length];
+        Arrays.fill(lastClause, -1);
+        double[] averageLengths = new double[FIELDS];
+        for (int field = 0; field < FIELDS; field++) {
+            averageLengths[field] = Math.max(1.0, (double) fieldLengths[field] / docCount);
+        }
+        for (int clause = 0; clause < clauses.size(); clause++) {
+            double weight = clauses.get(clause).weight();
+            for (String term : clauses.get(clause).terms()) {
+                Postings termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (docCount - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+                for (int i = 0; i < termPostings.size(); i++) {
+                    int ordinal = termPostings.ordinals[i];
+                    Doc doc = docs[ordinal];
+                    double tf = 0;
+                    for (int field = 0; field < FIELDS; field++) {
+                        float frequency = termPostings.frequencies[i * FIELDS + field];
+                        if (frequency > 0) {
+                            tf += BOOSTS[field] * frequency
+                                    / (1 - B + B * doc.lengths[field] / averageLengths[field]);
+                        }
+                    }
+                    scores[ordinal] += weight * idf * tf * (K1 + 1) / (tf + K1);
+                    if (lastClause[ordinal] != clause) {
+                        lastClause[ordinal] = clause;
+                        matchedClauses[ordinal]++;
+                    }
+                }
+            }
+        }
+
+        if (filter != null) {
+            for (int ordinal = 0; ordinal < matchedClauses.length; ordinal++) {
+                if (!filter.get(ordinal)) {
+                    matchedClauses[ordinal] = 0;
+                }
+            }
+        }
+        List<Hit> hits = collect(scores, matchedClauses, clauses.size(), phrases, limit);
+        if (hits.isEmpty() && clauses.size() > 1) {
+            hits = collect(scores, matchedClauses, 1, phrases, limit);
+        }
+        return hits;
+    }
+
+    public int size() {
+        return docCount;
+    }
+
+    private List<Hit> collect(double[] scores, int[] matchedClauses, int required, List<List<String>> phrases,
+                              int limit) {
+        PriorityQueue<Hit> top = new PriorityQueue<>(Hit.RANKING.reversed());
+        for (int ordinal = 0; ordinal < scores.length; ordinal++) {
+            if (matchedClauses[ordinal] < required || !containsPhrases(docs[ordinal], phrases)) {
+                continue;
+            }
+            top.add(new Hit(ordinal, scores[ordinal]));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Hit> ranked = new ArrayList<>(top);
+        ranked.sort(Hit.RANKING);
+        return ranked;
+    }
+
+    private Clause expand(String term) {
+        if (postings.containsKey(term)) {
+            return Clause.exact(term);
+        }
+        String[] terms = vocabulary.terms;
+        int from = Arrays.binarySearch(terms, term);
+        from = from < 0 ? -from - 1 : from;
+        List<String> expansions = new ArrayList<>();
+        for (int i = from; i < terms.length && expansions.size() < MAX_PREFIX_EXPANSIONS; i++) {
+            if (!terms[i].startsWith(term)) {
+                break;
+            }
+            expansions.add(terms[i]);
+        }
+        if (!expansions.isEmpty()) {
+            return new Clause(expansions.toArray(new String[0]), 1.0);
+        }
+
+        List<String> nearest = new ArrayList<>(vocabulary.tree().nearest(term, maxEdits(term)));
+        if (nearest.isEmpty()) {
+            return new Clause(new String[0], 1.0);
+        }
+        // Most common spellings first when a typo is equally close to many terms
+        nearest.sort(Comparator.comparingInt((String candidate) -> -postings.get(candidate).size())
+                .thenComparing(Comparator.naturalOrder()));
+        List<String> fuzzy = nearest.subList(0, Math.min(nearest.size(), MAX_FUZZY_EXPANSIONS));
+        int distance = BkTree.levenshtein(term, fuzzy.get(0));
+        return new Clause(fuzzy.toArray(new String[0]), 1.0 / (1 + distance));
+    }
+
+    // Short words have too many neighbours for a typo to be told apart from a different word
+    static int maxEdits(String term) {
+        if (term.length() < 4) {
+            return 0;
+        }
+        return term.length() < 8 ? 1 : 2;
+    }
+
+    private static boolean containsPhrases(Doc doc, List<List<String>> phrases) {
+        for (List<String> phrase : phrases) {
+            if (!contains(doc.title, phrase) && !contains(doc.keywords, phrase) && !contains(doc.content, phrase)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(String[] tokens, List<String> phrase) {
+        outer:
+        for (int start = 0; start + phrase.size() <= tokens.length; start++) {
+            for (int i = 0; i < phrase.size(); i++) {
+                if (!phrase.get(i).equals(tokens[start + i])) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static void removeTerms(Map<String, Postings> postings, Doc doc, int ordinal) {
+        for (String term : doc.termFrequencies().keySet()) {
+            Postings remaining = postings.get(term).without(ordinal);
+            if (remaining.size() == 0) {
+                postings.remove(term);
+            } else {
+                postings.put(term, remaining);
+            }
+        }
+    }
+
+    private Vocabulary vocabularyFor(Map<String, Postings> updated) {
+        if (updated.size() == vocabulary.terms.length) {
+            boolean unchanged = true;
+            for (String term : vocabulary.terms) {
+                if (!updated.containsKey(term)) {
+                    unchanged = false;
+                    break;
+                }
+            }
+            if (unchanged) {
+                return vocabulary;
+            }
+        }
+        return new Vocabulary(sortedTerms(updated));
+    }
+
+    private static String[] sortedTerms(Map<String, Postings> postings) {
+        String[] terms = postings.keySet().toArray(new String[0]);
+        Arrays.sort(terms);
+        return terms;
+    }
+
+    private record Clause(String[] terms, double weight) {
+        static Clause exact(String term) {
+            return new Clause(new String[]{term}, 1.0);
+        }
+    }
+
+    /**
+     * Sorted index terms plus the BK-tree for typo lookups, built on first use. Shared by successive
+     * index versions for as long as an update adds and removes no terms.
+     */
+    private static final class Vocabulary {
+        private final String[] terms;
+        private volatile BkTree tree;
+
+        Vocabulary(String[] terms) {
+            this.terms = terms;
+        }
+
+        BkTree tree() {
+            BkTree current = tree;
+            if (current == null) {
+                current = BkTree.build(terms);
+                tree = current;
+            }
+            return current;
+        }
+    }
+
+    public record Hit(int ordinal, double score) {
+        static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparingInt(Hit::ordinal);
+    }
+
+    private static final class Doc {
+        private final String[] title;
+        // keywords are separated by null so that a phrase never spans two of them
+        private final String[] keywords;
+        private final String[] content;
+        private final int[] lengths;
+
+        private Doc(String[] title, String[] keywords, String[] content) {
+            this.title = title;
+            this.keywords = keywords;
+            this.content = content;
+            this.lengths = new int[]{countTerms(title), countTerms(keywords), countTerms(content)};
+        }
+
+        static Doc of(GdprArticleDto article) {
+            List<String> keywords = new ArrayList<>();
+            if (article.getKeywords() != null) {
+                for (String keyword : article.getKeywords()) {
+                    if (!keywords.isEmpty()) {
+                        keywords.add(null);
+                    }
+                    keywords.addAll(TextAnalyzer.analyze(keyword));
+                }
+            }
+            return new Doc(
+                    TextAnalyzer.analyze(article.getTitle()).toArray(new String[0]),
+                    keywords.toArray(new String[0]),
+                    TextAnalyzer.analyze(article.getContent()).toArray(new String[0]));
+        }
+
+        /**
+         * Per-term frequency in each field, indexed by field.
+         */
+        Map<String, float[]> termFrequencies() {
+            Map<String, float[]> frequencies = new LinkedHashMap<>();
+            count(frequencies, title, TITLE);
+            count(frequencies, keywords, KEYWORDS);
+            count(frequencies, content, CONTENT);
+            return frequencies;
+        }
+
+        void addLengthsTo(long[] totals, int sign) {
+            for (int field = 0; field < FIELDS; field++) {
+                totals[field] += (long) sign * lengths[field];
+            }
+        }
+
+        private static void count(Map<String, float[]> frequencies, String[] tokens, int field) {
+            for (String token : tokens) {
+                if (token != null) {
+                    frequencies.computeIfAbsent(token, key -> new float[FIELDS])[field]++;
+                }
+            }
+        }
+
+        private static int countTerms(String[] tokens) {
+            int count = 0;
+            for (String token : tokens) {
+                if (token != null) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    // frequencies holds FIELDS entries per posting, in ordinal order
+    private static final class Postings {
+        private final int[] ordinals;
+        private final float[] frequencies;
+
+        Postings(int[] ordinals, float[] frequencies) {
+            this.ordinals = ordinals;
+            this.frequencies = frequencies;
+        }
+
+        int size() {
+            return ordinals.length;
+        }
+
+        Postings with(int ordinal, float[] fieldFrequencies) {
+            int index = Arrays.binarySearch(ordinals, ordinal);
+            if (index >= 0) {
+                float[] updated = frequencies.clone();
+                System.arraycopy(fieldFrequencies, 0, updated, index * FIELDS, FIELDS);
+                return new Postings(ordinals, updated);
+            }
+            int insertAt = -index - 1;
+            int[] newOrdinals = new int[ordinals.length + 1];
+            float[] newFrequencies = new float[frequencies.length + FIELDS];
+            System.arraycopy(ordinals, 0, newOrdinals, 0, insertAt);
+            System.arraycopy(frequencies, 0, newFrequencies, 0, insertAt * FIELDS);
+            newOrdinals[insertAt] = ordinal;
+            System.arraycopy(fieldFrequencies, 0, newFrequencies, insertAt * FIELDS, FIELDS);
+            System.arraycopy(ordinals, insertAt, newOrdinals, insertAt + 1, ordinals.length - insertAt);
+            System.arraycopy(frequencies, insertAt * FIELDS, newFrequencies, (insertAt + 1) * FIELDS,
+                    frequencies.length - insertAt * FIELDS);
+            return new Postings(newOrdinals, newFrequencies);
+        }
+
+        Postings without(int ordinal) {
+            int index = Arrays.binarySearch(ordinals, ordinal);
+            if (index < 0) {
+                return this;
+            }
+            int[] newOrdinals = new int[ordinals.length - 1];
+            float[] newFrequencies = new float[frequencies.length - FIELDS];
+            System.arraycopy(ordinals, 0, newOrdinals, 0, index);
+            System.arraycopy(frequencies, 0, newFrequencies, 0, index * FIELDS);
+            System.arraycopy(ordinals, index + 1, newOrdinals, index, ordinals.length - index - 1);
+            System.arraycopy(frequencies, (index + 1) * FIELDS, newFrequencies, index * FIELDS,
+                    frequencies.length - (index + 1) * FIELDS);
+            return new Postings(newOrdinals, newFrequencies);
+        }
+    }
+
+    private static final class PostingsBuilder {
+        private int[] ordinals = new int[4];
+        private float[] frequencies = new float[4 * FIELDS];
+        private int size;
+
+        void add(int ordinal, float[] fieldFrequencies) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2 * FIELDS);
+            }
+            ordinals[size] = ordinal;
+            System.arraycopy(fieldFrequencies, 0, frequencies, size * FIELDS, FIELDS);
+            size++;
+        }
+
+        Postings build() {
+            return new Postings(Arrays.copyOf(ordinals, size), Arrays.copyOf(frequencies, size * FIELDS));
+        }
+    }
+}
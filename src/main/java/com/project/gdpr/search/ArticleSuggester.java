@@ -0,0 +1,185 @@
+package com.project.gdpr.search;
+
+import com.project.gdpr.dto.ArticleSuggestionDto;
+import com.project.gdpr.dto.ArticleSuggestionDto.Kind;
+import com.project.gdpr.dto.GdprArticleDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Typeahead over article numbers, titles and keywords: a sorted array of normalized keys searched by
+ * binary search. Titles and keywords are also keyed from every word, so "erasure" completes
+ * "Right to erasure", and article numbers answer to "article 17", "art 17" and "17".
+ * Immutable; rebuilt with each catalog snapshot.
+ */
+public final class ArticleSuggester {
+    private static final Pattern ARTICLE_NUMBER = Pattern.compile("^(?:art(?:icle)?\\s*)?(\\d+[a-z]?)$");
+    private static final Pattern LETTER_DIGIT = Pattern.compile("(?<=\\p{L})(?=\\d)|(?<=\\d)(?=\\p{L})");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final int MAX_SCAN = 1024;
+    private static final ArticleSuggester EMPTY = new ArticleSuggester(new String[0], new int[0], new boolean[0],
+            new ArticleSuggestionDto[0]);
+
+    private final String[] keys;
+    private final int[] targets;
+    // whether the key is the whole suggestion (rather than a later word of it)
+    private final boolean[] leading;
+    private final ArticleSuggestionDto[] suggestions;
+
+    private ArticleSuggester(String[] keys, int[] targets, boolean[] leading, ArticleSuggestionDto[] suggestions) {
+        this.keys = keys;
+        this.targets = targets;
+        this.leading = leading;
+        this.suggestions = suggestions;
+    }
+
+    public static ArticleSuggester empty() {
+        return EMPTY;
+    }
+
+    public static ArticleSuggester build(Iterable<GdprArticleDto> articles) {
+        Builder builder = new Builder();
+        for (GdprArticleDto article : articles) {
+            builder.addNumber(article);
+            builder.addPhrase(article.getTitle(), Kind.TITLE, article.getId());
+            if (article.getKeywords() != null) {
+                for (String keyword : article.getKeywords()) {
+                    builder.addPhrase(keyword, Kind.KEYWORD, article.getId());
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Up to {@code limit} completions of {@code prefix}: article numbers first, then titles, then
+     * keywords; within a kind, matches at the start of the text beat matches on a later word, and
+     * shorter texts win.
+     */
+    public List<ArticleSuggestionDto> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int from = lowerBound(key);
+        Map<Integer, Boolean> matches = new LinkedHashMap<>();
+        for (int i = from; i < keys.length && i - from < MAX_SCAN && keys[i].startsWith(key); i++) {
+            matches.merge(targets[i], leading[i], Boolean::logicalOr);
+        }
+        return matches.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<Integer, Boolean>>comparingInt(match -> suggestions[match.getKey()].getKind().ordinal())
+                        .thenComparing(match -> !match.getValue())
+                        .thenComparingInt(match -> suggestions[match.getKey()].getText().length())
+                        .thenComparing(match -> suggestions[match.getKey()].getText()))
+                .limit(limit)
+                .map(match -> suggestions[match.getKey()])
+                .toList();
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = LETTER_DIGIT.matcher(TextAnalyzer.fold(text)).replaceAll(" ");
+        return NON_WORD.matcher(folded).replaceAll(" ").trim();
+    }
+
+    private static final class Builder {
+        private final List<String> keys = new ArrayList<>();
+        private final List<Integer> targets = new ArrayList<>();
+        private final List<Boolean> leading = new ArrayList<>();
+        private final List<ArticleSuggestionDto> suggestions = new ArrayList<>();
+        private final Map<String, Integer> byText = new HashMap<>();
+
+        void addNumber(GdprArticleDto article) {
+            String normalized = normalize(article.getArticleNumber());
+            if (normalized.isEmpty()) {
+                return;
+            }
+            int target = target(Kind.ARTICLE_NUMBER, article.getArticleNumber(), article.getId());
+            addKey(normalized, target, true);
+            Matcher matcher = ARTICLE_NUMBER.matcher(normalized);
+            if (matcher.matches()) {
+                String number = matcher.group(1);
+                addKey("article " + number, target, true);
+                addKey("art " + number, target, true);
+                addKey(number, target, true);
+            }
+        }
+
+        void addPhrase(String text, Kind kind, UUID articleId) {
+            String normalized = normalize(text);
+            if (normalized.isEmpty()) {
+                return;
+            }
+            int target = target(kind, text.trim(), articleId);
+            addKey(normalized, target, true);
+            for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+                addKey(normalized.substring(i + 1), target, false);
+            }
+        }
+
+        // One suggestion per distinct text and kind; a keyword shared by several articles points at none
+        private int target(Kind kind, String text, UUID articleId) {
+            String identity = kind + "\u0000" + normalize(text);
+            Integer existing = byText.get(identity);
+            if (existing == null) {
+                suggestions.add(new ArticleSuggestionDto(text, kind, articleId));
+                byText.put(identity, suggestions.size() - 1);
+                return suggestions.size() - 1;
+            }
+            ArticleSuggestionDto suggestion = suggestions.get(existing);
+            if (suggestion.getArticleId() != null && !suggestion.getArticleId().equals(articleId)) {
+                suggestions.set(existing, new ArticleSuggestionDto(suggestion.getText(), kind, null));
+            }
+            return existing;
+        }
+
+        private void addKey(String key, int target, boolean isLeading) {
+            keys.add(key);
+            targets.add(target);
+            leading.add(isLeading);
+        }
+
+        ArticleSuggester build() {
+            Integer[] order = new Integer[keys.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing(keys::get));
+            String[] sortedKeys = new String[order.length];
+            int[] sortedTargets = new int[order.length];
+            boolean[] sortedLeading = new boolean[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedKeys[i] = keys.get(order[i]);
+                sortedTargets[i] = targets.get(order[i]);
+                sortedLeading[i] = leading.get(order[i]);
+            }
+            return new ArticleSuggester(sortedKeys, sortedTargets, sortedLeading,
+                    suggestions.toArray(new ArticleSuggestionDto[0]));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.project.gdpr.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Burkhard-Keller tree over a fixed set of terms under Levenshtein distance. A lookup only descends
+ * into children whose edge distance lies within {@code maxDistance} of the distance to the current
+ * node, so most of the vocabulary is never compared.
+ */
+final class BkTree {
+    private final Node root;
+
+    private BkTree(Node root) {
+        this.root = root;
+    }
+
+    static BkTree build(String[] terms) {
+        Node root = null;
+        for (String term : terms) {
+            if (root == null) {
+                root = new Node(term);
+            } else {
+                root.add(term);
+            }
+        }
+        return new BkTree(root);
+    }
+
+    /**
+     * Terms at the smallest distance from {@code term} that is at most {@code maxDistance}, excluding
+     * the term itself.
+     */
+    List<String> nearest(String term, int maxDistance) {
+        List<String> nearest = new ArrayList<>();
+        if (root == null || maxDistance <= 0) {
+            return nearest;
+        }
+        int best = maxDistance;
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = levenshtein(term, node.term);
+            if (distance > 0 && distance <= best) {
+                if (distance < best) {
+                    best = distance;
+                    nearest.clear();
+                }
+                nearest.add(node.term);
+            }
+            int low = Math.max(1, distance - best);
+            int high = Math.min(node.children.length - 1, distance + best);
+            for (int edge = low; edge <= high; edge++) {
+                if (node.children[edge] != null) {
+                    pending.push(node.children[edge]);
+                }
+            }
+        }
+        return nearest;
+    }
+
+    static int levenshtein(String left, String right) {
+        int[] previous = new int[right.length() + 1];
+        int[] current = new int[right.length() + 1];
+        for (int j = 0; j <= right.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= left.length(); i++) {
+            current[0] = i;
+            char c = left.charAt(i - 1);
+            for (int j = 1; j <= right.length(); j++) {
+                int substitution = previous[j - 1] + (c == right.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[right.length()];
+    }
+
+    private static final class Node {
+        private final String term;
+        private Node[] children = new Node[0];
+
+        Node(String term) {
+            this.term = term;
+        }
+
+        void add(String term) {
+            Node node = this;
+            while (true) {
+                int distance = levenshtein(term, node.term);
+                if (distance == 0) {
+                    return;
+                }
+                if (distance >= node.children.length) {
+                    node.children = Arrays.copyOf(node.children, distance + 1);
+                }
+                if (node.children[distance] == null) {
+                    node.children[distance] = new Node(term);
+                    return;
+                }
+                node = node.children[distance];
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.project.gdpr.search;
+
+import com.project.gdpr.dto.GdprArticleDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cross-references between articles, parsed from their text ("pursuant to Article 9",
+ * "Articles 15 to 22 and 34", "Article 6(1)(a)") and kept as adjacency lists over article
+ * ordinals in both directions. References to other acts ("Article 29 of Directive 95/46/EC") and
+ * to the article itself are left out. Immutable; rebuilt with each catalog snapshot.
+ */
+public final class CitationGraph {
+    private static final String PARAGRAPH = "(?:\\s*\\(\\w{1,4}\\))*";
+    private static final Pattern CITATION = Pattern.compile(
+            "\\bArticles?\\s+(\\d+" + PARAGRAPH + "(?:(?:\\s*,\\s*|\\s+(?:and|or|to)\\s+)\\d+" + PARAGRAPH + ")*)"
+                    + "(\\s+of\\s+(?!this\\b)\\w+)?");
+    private static final Pattern LIST_ITEM = Pattern.compile("(\\bto\\s+)?(\\d+)");
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+    private static final Pattern PARAGRAPHS = Pattern.compile("\\(\\w{1,4}\\)");
+    private static final int MAX_RANGE = 100;
+    private static final int[] NONE = new int[0];
+
+    private final int[][] references;
+    private final int[][] referencedBy;
+
+    private CitationGraph(int[][] references, int[][] referencedBy) {
+        this.references = references;
+        this.referencedBy = referencedBy;
+    }
+
+    public static CitationGraph build(GdprArticleDto[] articles) {
+        Map<Integer, int[]> ordinalsByNumber = new HashMap<>();
+        for (int ordinal = 0; ordinal < articles.length; ordinal++) {
+            if (articles[ordinal] != null) {
+                Integer number = numberOf(articles[ordinal].getArticleNumber());
+                if (number != null) {
+                    ordinalsByNumber.merge(number, new int[]{ordinal}, CitationGraph::concat);
+                }
+            }
+        }
+
+        int[][] references = new int[articles.length][];
+        List<List<Integer>> inbound = new ArrayList<>(articles.length);
+        for (int ordinal = 0; ordinal < articles.length; ordinal++) {
+            inbound.add(new ArrayList<>());
+        }
+        for (int ordinal = 0; ordinal < articles.length; ordinal++) {
+            references[ordinal] = NONE;
+            if (articles[ordinal] == null || articles[ordinal].getContent() == null) {
+                continue;
+            }
+            TreeSet<Integer> targets = new TreeSet<>();
+            for (int number : citedNumbers(articles[ordinal].getContent())) {
+                for (int target : ordinalsByNumber.getOrDefault(number, NONE)) {
+                    if (target != ordinal) {
+                        targets.add(target);
+                    }
+                }
+            }
+            references[ordinal] = targets.stream().mapToInt(Integer::intValue).toArray();
+            for (int target : references[ordinal]) {
+                inbound.get(target).add(ordinal);
+            }
+        }
+
+        int[][] referencedBy = new int[articles.length][];
+        for (int ordinal = 0; ordinal < articles.length; ordinal++) {
+            referencedBy[ordinal] = inbound.get(ordinal).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return new CitationGraph(references, referencedBy);
+    }
+
+    /** Ordinals of the articles {@code ordinal} cites, ascending. */
+    public int[] references(int ordinal) {
+        return ordinal < references.length ? references[ordinal].clone() : NONE;
+    }
+
+    /** Ordinals of the articles citing {@code ordinal}, ascending. */
+    public int[] referencedBy(int ordinal) {
+        return ordinal < referencedBy.length ? referencedBy[ordinal].clone() : NONE;
+    }
+
+    static List<Integer> citedNumbers(String text) {
+        List<Integer> numbers = new ArrayList<>();
+        Matcher citation = CITATION.matcher(text);
+        while (citation.find()) {
+            if (citation.group(2) != null) {
+                continue;
+            }
+            // Paragraph and point markers are dropped so that "6(1) and 9(2)" reads as "6 and 9"
+            Matcher item = LIST_ITEM.matcher(PARAGRAPHS.matcher(citation.group(1)).replaceAll(""));
+            int previous = -1;
+            while (item.find()) {
+                int number = Integer.parseInt(item.group(2));
+                if (item.group(1) != null && previous >= 0 && number > previous && number - previous <= MAX_RANGE) {
+                    for (int between = previous + 1; between < number; between++) {
+                        numbers.add(between);
+                    }
+                }
+                numbers.add(number);
+                previous = number;
+            }
+        }
+        return numbers;
+    }
+
+    private static Integer numberOf(String articleNumber) {
+        if (articleNumber == null) {
+            return null;
+        }
+        Matcher matcher = NUMBER.matcher(articleNumber);
+        return matcher.find() && matcher.group().length() < 10 ? Integer.valueOf(matcher.group()) : null;
+    }
+
+    private static int[] concat(int[] left, int[] right) {
+        int[] merged = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, merged, left.length, right.length);
+        return merged;
+    }
+}
@@ -0,0 +1,114 @@
+package com.project.gdpr.search;
+
+import com.project.gdpr.dto.GdprArticleDto;
+import com.project.gdpr.dto.KeywordFacetDto;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One bitset of article ordinals per keyword, so keyword filters are word-wise AND/OR and facet
+ * counts are popcounts of an intersection. Keywords are matched case- and accent-insensitively and
+ * reported in the spelling first seen. Immutable; rebuilt with each catalog snapshot.
+ */
+public final class KeywordFacets {
+    public enum Match { ALL, ANY }
+
+    private static final Comparator<KeywordFacetDto> MOST_USED = Comparator
+            .comparingInt(KeywordFacetDto::getCount).reversed()
+            .thenComparing(KeywordFacetDto::getKeyword, String.CASE_INSENSITIVE_ORDER);
+
+    private final Map<String, Facet> facets;
+
+    private KeywordFacets(Map<String, Facet> facets) {
+        this.facets = facets;
+    }
+
+    public static KeywordFacets build(GdprArticleDto[] articles) {
+        Map<String, String> spellings = new HashMap<>();
+        Map<String, BitSet> ordinals = new LinkedHashMap<>();
+        for (int ordinal = 0; ordinal < articles.length; ordinal++) {
+            GdprArticleDto article = articles[ordinal];
+            if (article == null || article.getKeywords() == null) {
+                continue;
+            }
+            for (String keyword : article.getKeywords()) {
+                String key = key(keyword);
+                if (key.isEmpty()) {
+                    continue;
+                }
+                spellings.putIfAbsent(key, keyword.trim());
+                ordinals.computeIfAbsent(key, k -> new BitSet(articles.length)).set(ordinal);
+            }
+        }
+        Map<String, Facet> facets = new HashMap<>();
+        ordinals.forEach((key, bits) ->
+                facets.put(key, new Facet(spellings.get(key), bits.toLongArray(), bits.cardinality())));
+        return new KeywordFacets(facets);
+    }
+
+    /**
+     * Ordinals of the articles carrying all (or any) of {@code keywords}, or {@code null} when no
+     * keyword is given. An unknown keyword matches nothing.
+     */
+    public BitSet filter(Collection<String> keywords, Match match) {
+        if (keywords == null) {
+            return null;
+        }
+        BitSet result = null;
+        for (String keyword : keywords) {
+            String key = key(keyword);
+            if (key.isEmpty()) {
+                continue;
+            }
+            Facet facet = facets.get(key);
+            BitSet bits = facet == null ? new BitSet() : BitSet.valueOf(facet.words());
+            if (result == null) {
+                result = bits;
+            } else if (match == Match.ANY) {
+                result.or(bits);
+            } else {
+                result.and(bits);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Every keyword used by an article in {@code within} (all articles when {@code null}) with the
+     * number of those articles carrying it, most used first.
+     */
+    public List<KeywordFacetDto> counts(BitSet within) {
+        long[] scope = within == null ? null : within.toLongArray();
+        List<KeywordFacetDto> counts = new ArrayList<>(facets.size());
+        for (Facet facet : facets.values()) {
+            int count = scope == null ? facet.count() : intersectionCount(facet.words(), scope);
+            if (count > 0) {
+                counts.add(new KeywordFacetDto(facet.keyword(), count));
+            }
+        }
+        counts.sort(MOST_USED);
+        return counts;
+    }
+
+    private static int intersectionCount(long[] left, long[] right) {
+        int count = 0;
+        for (int i = 0, n = Math.min(left.length, right.length); i < n; i++) {
+            count += Long.bitCount(left[i] & right[i]);
+        }
+        return count;
+    }
+
+    private static String key(String keyword) {
+        return keyword == null ? "" : TextAnalyzer.fold(keyword.trim());
+    }
+
+    private record Facet(String keyword, long[] words, int count) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.project.gdpr.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.project.gdpr.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-IP and per-account token buckets checked before any password hashing is attempted.
+ * Buckets are lock-free and kept in a bounded cache; idle buckets are dropped once they would
+ * have refilled completely anyway.
+ */
+@Component
+public class LoginRateLimiter {
+    private final Ticker ticker;
+    private final Cache<String, TokenBucket> buckets;
+    private final BucketSpec ipSpec;
+    private final BucketSpec accountSpec;
+    private final Counter ipRejections;
+    private final Counter accountRejections;
+
+    @Autowired
+    public LoginRateLimiter(
+            @Value("${application.security.login.rate-limit.ip.capacity:20}") int ipCapacity,
+            @Value("${application.security.login.rate-limit.ip.refill-period:3s}") Duration ipRefillPeriod,
+            @Value("${application.security.login.rate-limit.account.capacity:5}") int accountCapacity,
+            @Value("${application.security.login.rate-limit.account.refill-period:12s}") Duration accountRefillPeriod,
+            @Value("${application.security.login.rate-limit.max-tracked-keys:100000}") long maxTrackedKeys,
+            MeterRegistry meterRegistry) {
+        this(new BucketSpec(ipCapacity, ipRefillPeriod), new BucketSpec(accountCapacity, accountRefillPeriod),
+                maxTrackedKeys, meterRegistry, Ticker.systemTicker());
+    }
+
+    public LoginRateLimiter(BucketSpec ipSpec, BucketSpec accountSpec, long maxTrackedKeys,
+                     MeterRegistry meterRegistry, Ticker ticker) {
+        this.ipSpec = ipSpec;
+        this.accountSpec = accountSpec;
+        this.ticker = ticker;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(Math.max(ipSpec.windowNanos(), accountSpec.windowNanos()), TimeUnit.NANOSECONDS)
+                .ticker(ticker)
+                .build();
+        this.ipRejections = Counter.builder("login.rate_limit.rejections").tag("scope", "ip").register(meterRegistry);
+        this.accountRejections = Counter.builder("login.rate_limit.rejections").tag("scope", "account").register(meterRegistry);
+    }
+
+    public void checkLogin(String clientIp, String email) {
+        acquire("ip:" + clientIp, ipSpec, ipRejections);
+        if (email != null) {
+            acquire("account:" + email.trim().toLowerCase(Locale.ROOT), accountSpec, accountRejections);
+        }
+    }
+
+    public void checkRegistration(String clientIp) {
+        acquire("ip:" + clientIp, ipSpec, ipRejections);
+    }
+
+    private void acquire(String key, BucketSpec spec, Counter rejections) {
+        long now = ticker.read();
+        long waitNanos = buckets.get(key, k -> new TokenBucket(now)).tryAcquire(spec, now);
+        if (waitNanos > 0) {
+            rejections.increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            throw new RateLimitExceededException("Too many attempts, please try again later", retryAfterSeconds);
+        }
+    }
+
+    public record BucketSpec(int capacity, Duration refillPeriod) {
+        long intervalNanos() {
+            return refillPeriod.toNanos();
+        }
+
+        long windowNanos() {
+            return intervalNanos() * capacity;
+        }
+    }
+
+    /**
+     * Token bucket stored as a single timestamp: the time at which the bucket will be full again.
+     * Taking a token pushes that time forward by one refill interval; if that would put it more than
+     * {@code capacity} intervals ahead of now, the bucket is empty. Updates are a CAS loop, no locks.
+     */
+    static final class TokenBucket {
+        private final AtomicLong fullAt;
+
+        TokenBucket(long now) {
+            this.fullAt = new AtomicLong(now);
+        }
+
+        /**
+         * @return 0 if a token was taken, otherwise the nanoseconds until one becomes available
+         */
+        long tryAcquire(BucketSpec spec, long now) {
+            while (true) {
+                long current = fullAt.get();
+                long next = Math.max(current, now) + spec.intervalNanos();
+                long overflow = next - now - spec.windowNanos();
+                if (overflow > 0) {
+                    return overflow;
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.project.gdpr.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.gdpr.config.AfterCommit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Size-bounded, TTL-based cache of authenticated principals keyed by username, so that
+ * JwtAuthenticationFilter does not need a database round trip for every Bearer request.
+ * Hit, miss and eviction counts are published as {@code cache.*} metrics with {@code cache=principals}.
+ */
+@Component
+public class PrincipalCache {
+    private final Cache<String, UserDetailsImpl> cache;
+
+    public PrincipalCache(
+            @Value("${application.security.principal-cache.max-size:10000}") long maxSize,
+            @Value("${application.security.principal-cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    public UserDetailsImpl get(String username, Function<String, UserDetailsImpl> loader) {
+        return cache.get(username, loader);
+    }
+
+    public void invalidate(String username) {
+        cache.invalidate(username);
+        // Evict again once the change is committed, so a concurrent request cannot re-cache the old row
+        AfterCommit.run(() -> cache.invalidate(username));
+    }
+
+    public void invalidate(UUID userId) {
+        Runnable evict = () -> cache.asMap().values().removeIf(principal -> principal.getId().equals(userId));
+        evict.run();
+        AfterCommit.run(evict);
+    }
+}
@@ -0,0 +1,70 @@
+package com.project.gdpr.security;
+
+import com.project.gdpr.config.AfterCommit;
+import com.project.gdpr.config.JwtService;
+import com.project.gdpr.repository.UserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory table of each user's current token version, used to revoke stateless access tokens.
+ * A token is only accepted if its version claim matches the table. Local changes are applied after
+ * commit; changes made on other nodes are picked up by the periodic refresh.
+ */
+@Component
+public class TokenVersionRegistry {
+    private static final long REVOKED = -1L;
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final Map<UUID, Long> versions = new ConcurrentHashMap<>();
+
+    public TokenVersionRegistry(UserRepository userRepository, JwtService jwtService) {
+        this.userRepository = userRepository;
+        this.enabled = jwtService.isStatelessPrincipal();
+    }
+
+    public boolean isCurrent(UUID userId, long tokenVersion) {
+        Long current = versions.get(userId);
+        if (current == null) {
+            // Users not seen yet (e.g. registered on another node since the last refresh) are looked up once
+            current = versions.merge(userId, userRepository.findTokenVersionById(userId).orElse(REVOKED), Math::max);
+        }
+        return current != REVOKED && current == tokenVersion;
+    }
+
+    public void update(UUID userId, long tokenVersion) {
+        AfterCommit.run(() -> versions.merge(userId, tokenVersion, Math::max));
+    }
+
+    public void revoke(UUID userId) {
+        AfterCommit.run(() -> versions.put(userId, REVOKED));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${application.security.jwt.token-version-refresh-interval:30000}",
+            initialDelayString = "${application.security.jwt.token-version-refresh-interval:30000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        Set<UUID> seen = new HashSet<>();
+        for (Object[] row : userRepository.findAllTokenVersions()) {
+            UUID id = (UUID) row[0];
+            seen.add(id);
+            // Versions only ever increase, so a concurrent local bump is never rolled back
+            versions.merge(id, (Long) row[1], Math::max);
+        }
+        // Deleted users drop out and are re-checked against the database on their next request
+        versions.keySet().retainAll(seen);
+    }
+}
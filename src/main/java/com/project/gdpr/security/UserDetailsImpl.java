@@ -1,6 +1,7 @@
 package com.project.gdpr.security;
 
 import com.project.gdpr.entity.User;
+import com.project.gdpr.entity.UserRole;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -24,6 +25,14 @@ public class UserDetailsImpl implements UserDetails {
         this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
     }
 
+    // Principal rebuilt from verified JWT claims; carries no password hash
+    public UserDetailsImpl(UUID id, String username, UserRole role) {
+        this.id = id;
+        this.username = username;
+        this.password = null;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
     @Override
     public boolean isAccountNonExpired() {
         return true;
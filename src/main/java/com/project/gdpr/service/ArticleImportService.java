@@ -0,0 +1,118 @@
+package com.project.gdpr.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.gdpr.config.AfterCommit;
+import com.project.gdpr.dto.ArticleImportResultDto;
+import com.project.gdpr.dto.GdprArticleDto;
+import com.project.gdpr.exception.InvalidImportException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bulk article import from a JSON array or NDJSON stream. Records are parsed one at a time and
+ * upserted by article number in JDBC batches, so memory use is bounded by the batch size rather
+ * than the request. The in-memory catalog is rebuilt once, after the import commits.
+ */
+@Service
+@RequiredArgsConstructor
+public class ArticleImportService {
+    static final int BATCH_SIZE = 500;
+    private static final int MAX_FIELD_LENGTH = 255;
+
+    // Rows whose content is unchanged keep their updated_at, so re-importing a file does not invalidate caches
+    private static final String UPSERT = """
+            INSERT INTO GDPRArticles (article_number, title, content, keywords, created_at, updated_at)
+            VALUES (?, ?, ?, ?, now(), now())
+            ON CONFLICT (article_number) DO UPDATE
+            SET title = EXCLUDED.title, content = EXCLUDED.content, keywords = EXCLUDED.keywords,
+                updated_at = EXCLUDED.updated_at
+            WHERE (GDPRArticles.title, GDPRArticles.content, GDPRArticles.keywords)
+                IS DISTINCT FROM (EXCLUDED.title, EXCLUDED.content, EXCLUDED.keywords)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final GdprArticleCatalog gdprArticleCatalog;
+    private final ArticleReferenceStore articleReferenceStore;
+
+    @Transactional
+    public ArticleImportResultDto importArticles(InputStream body) {
+        int received = 0;
+        int batches = 0;
+        // Keyed by number: one multi-row INSERT ... ON CONFLICT cannot touch the same row twice
+        Map<String, GdprArticleDto> batch = new LinkedHashMap<>();
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                token = parser.nextToken();
+            }
+            while (token != null && token != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new InvalidImportException("Article " + (received + 1) + " is not a JSON object");
+                }
+                GdprArticleDto article = objectMapper.readValue(parser, GdprArticleDto.class);
+                received++;
+                validate(article, received);
+                batch.put(article.getArticleNumber(), article);
+                if (batch.size() == BATCH_SIZE) {
+                    write(batch);
+                    batches++;
+                }
+                token = parser.nextToken();
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidImportException("Malformed JSON at line " + e.getLocation().getLineNr()
+                    + ": " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+            batches++;
+        }
+
+        if (received > 0) {
+            AfterCommit.run(() -> articleReferenceStore.sync(gdprArticleCatalog.reload()));
+        }
+        return new ArticleImportResultDto(received, batches);
+    }
+
+    private void write(Map<String, GdprArticleDto> batch) {
+        jdbcTemplate.batchUpdate(UPSERT, new ArrayList<>(batch.values()), batch.size(), (ps, article) -> {
+            ps.setString(1, article.getArticleNumber());
+            ps.setString(2, article.getTitle());
+            ps.setString(3, article.getContent());
+            if (article.getKeywords() == null) {
+                ps.setNull(4, Types.ARRAY);
+            } else {
+                ps.setArray(4, ps.getConnection().createArrayOf("text", article.getKeywords()));
+            }
+        });
+        batch.clear();
+    }
+
+    private static void validate(GdprArticleDto article, int position) {
+        if (article.getArticleNumber() == null || article.getArticleNumber().isBlank()) {
+            throw new InvalidImportException("Article " + position + " has no articleNumber");
+        }
+        if (article.getTitle() == null || article.getTitle().isBlank()) {
+            throw new InvalidImportException("Article " + position + " (" + article.getArticleNumber() + ") has no title");
+        }
+        if (article.getArticleNumber().length() > MAX_FIELD_LENGTH || article.getTitle().length() > MAX_FIELD_LENGTH) {
+            throw new InvalidImportException("Article " + position + " (" + article.getArticleNumber()
+                    + ") has an articleNumber or title longer than " + MAX_FIELD_LENGTH + " characters");
+        }
+    }
+}
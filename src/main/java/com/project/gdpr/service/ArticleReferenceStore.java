@@ -0,0 +1,91 @@
+package com.project.gdpr.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Mirrors the catalog's citation graph into the {@code article_references} table, writing only
+ * the links that changed since the last sync. The table is derived data, so a failed sync is
+ * logged rather than thrown: it runs after the article write has committed, and the next sync
+ * re-reads the table and writes the whole difference.
+ */
+@Slf4j
+@Component
+public class ArticleReferenceStore {
+    private final JdbcTemplate jdbcTemplate;
+    private final GdprArticleCatalog gdprArticleCatalog;
+    private final TransactionTemplate transactionTemplate;
+
+    // Links known to be in the table; null until read on the first sync and after a failed one
+    private Set<CatalogSnapshot.Citation> persisted;
+
+    public ArticleReferenceStore(JdbcTemplate jdbcTemplate, GdprArticleCatalog gdprArticleCatalog,
+                                 PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.gdprArticleCatalog = gdprArticleCatalog;
+        // Its own transaction because it is called after the article write has committed
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncOnStartup() {
+        sync(gdprArticleCatalog.snapshot());
+    }
+
+    // Holds the lock through the commit, so persisted always matches the committed table
+    public synchronized void sync(CatalogSnapshot snapshot) {
+        Set<CatalogSnapshot.Citation> citations = snapshot.getCitations();
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(citations));
+            persisted = new HashSet<>(citations);
+        } catch (RuntimeException e) {
+            persisted = null;
+            log.warn("Could not sync article references, retrying on the next article write", e);
+        }
+    }
+
+    private void write(Set<CatalogSnapshot.Citation> citations) {
+        Set<CatalogSnapshot.Citation> current = persisted;
+        if (current == null) {
+            current = new HashSet<>(jdbcTemplate.query("SELECT source_id, target_id FROM article_references",
+                    (rs, row) -> new CatalogSnapshot.Citation(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class))));
+        }
+        if (citations.equals(current)) {
+            return;
+        }
+
+        List<Object[]> removed = new ArrayList<>();
+        for (CatalogSnapshot.Citation citation : current) {
+            if (!citations.contains(citation)) {
+                removed.add(new Object[]{citation.sourceId(), citation.targetId()});
+            }
+        }
+        List<Object[]> added = new ArrayList<>();
+        for (CatalogSnapshot.Citation citation : citations) {
+            if (!current.contains(citation)) {
+                added.add(new Object[]{citation.sourceId(), citation.targetId()});
+            }
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM article_references WHERE source_id = ? AND target_id = ?", removed);
+        // Skips links to an article another node has just deleted instead of failing on the foreign key
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO article_references (source_id, target_id)
+                SELECT s.id, t.id FROM GDPRArticles s JOIN GDPRArticles t ON t.id = ?
+                WHERE s.id = ?
+                ON CONFLICT DO NOTHING""",
+                added.stream().map(link -> new Object[]{link[1], link[0]}).toList());
+    }
+}
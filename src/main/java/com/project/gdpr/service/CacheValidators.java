@@ -0,0 +1,8 @@
+package com.project.gdpr.service;
+
+/**
+ * HTTP validators for a cacheable representation: a (weak) entity tag and the last-modified time
+ * in epoch milliseconds.
+ */
+public record CacheValidators(String eTag, long lastModified) {
+}
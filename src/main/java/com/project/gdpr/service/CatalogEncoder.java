@@ -0,0 +1,52 @@
+package com.project.gdpr.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Serializes and compresses the catalog listings once per {@link CatalogSnapshot} instead of on every
+ * request. Uses the application's {@link ObjectMapper} so the bytes match what Spring MVC would write.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogEncoder {
+    private final ObjectMapper objectMapper;
+
+    private volatile Encoded articles;
+    private volatile Encoded summaries;
+
+    public EncodedCatalog articles(CatalogSnapshot snapshot) {
+        Encoded current = articles;
+        if (current == null || current.snapshot != snapshot) {
+            current = encode(snapshot, CatalogSnapshot::getArticles);
+            articles = current;
+        }
+        return current.catalog;
+    }
+
+    public EncodedCatalog summaries(CatalogSnapshot snapshot) {
+        Encoded current = summaries;
+        if (current == null || current.snapshot != snapshot) {
+            current = encode(snapshot, CatalogSnapshot::getSummaries);
+            summaries = current;
+        }
+        return current.catalog;
+    }
+
+    // Two requests racing on a new snapshot may both encode it; the results are identical
+    private Encoded encode(CatalogSnapshot snapshot, Function<CatalogSnapshot, List<?>> listing) {
+        try {
+            return new Encoded(snapshot, new EncodedCatalog(objectMapper.writeValueAsBytes(listing.apply(snapshot))));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the article catalog", e);
+        }
+    }
+
+    private record Encoded(CatalogSnapshot snapshot, EncodedCatalog catalog) {
+    }
+}
@@ -0,0 +1,370 @@
+package com.project.gdpr.service;
+
+import com.project.gdpr.dto.ArticleReferencesDto;
+import com.project.gdpr.dto.ArticleSuggestionDto;
+import com.project.gdpr.dto.GdprArticleDto;
+import com.project.gdpr.dto.GdprArticleSummaryDto;
+import com.project.gdpr.dto.KeywordFacetDto;
+import com.project.gdpr.search.ArticleSearchIndex;
+import com.project.gdpr.search.ArticleSuggester;
+import com.project.gdpr.search.CitationGraph;
+import com.project.gdpr.search.KeywordFacets;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable view of the whole GDPR article corpus. Every article has a stable ordinal (its slot in
+ * {@code articles}); deleted articles leave an empty slot so ordinals never shift between versions.
+ * The DTOs are shared between requests and must not be modified by callers.
+ */
+public final class CatalogSnapshot {
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+    // "Article 2" before "Article 10"; anything without a number sorts last, alphabetically
+    static final Comparator<GdprArticleDto> ARTICLE_NUMBER_ORDER = Comparator
+            .comparingLong((GdprArticleDto article) -> numericPart(article.getArticleNumber()))
+            .thenComparing(GdprArticleDto::getArticleNumber, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final long version;
+    private final GdprArticleDto[] articles;
+    private final long lastRemoval;
+    private final String eTag;
+    private final long lastModified;
+    private final Map<UUID, Integer> ordinalById;
+    private final Map<String, int[]> ordinalsByNumber;
+    private final List<GdprArticleDto> listing;
+    private final List<GdprArticleSummaryDto> summaries;
+    private final ArticleSearchIndex searchIndex;
+    private final ArticleSuggester suggester;
+    private final KeywordFacets keywordFacets;
+    private final CitationGraph citationGraph;
+
+    CatalogSnapshot(long version, GdprArticleDto[] articles, long lastRemoval) {
+        this(version, articles, lastRemoval, ArticleSearchIndex.build(articles));
+    }
+
+    private CatalogSnapshot(long version, GdprArticleDto[] articles, long lastRemoval,
+                            ArticleSearchIndex searchIndex) {
+        this.version = version;
+        this.articles = articles;
+        this.lastRemoval = lastRemoval;
+        this.searchIndex = searchIndex;
+
+        Map<UUID, Integer> byId = new HashMap<>();
+        Map<String, int[]> byNumber = new HashMap<>();
+        List<GdprArticleDto> live = new ArrayList<>();
+        for (int ordinal = 0; ordinal < articles.length; ordinal++) {
+            GdprArticleDto article = articles[ordinal];
+            if (article == null) {
+                continue;
+            }
+            byId.put(article.getId(), ordinal);
+            byNumber.merge(article.getArticleNumber(), new int[]{ordinal}, CatalogSnapshot::concat);
+            live.add(article);
+        }
+        live.sort(ARTICLE_NUMBER_ORDER);
+
+        List<GdprArticleSummaryDto> liveSummaries = new ArrayList<>(live.size());
+        for (GdprArticleDto article : live) {
+            liveSummaries.add(summaryOf(article));
+        }
+
+        this.ordinalById = byId;
+        this.ordinalsByNumber = byNumber;
+        this.listing = Collections.unmodifiableList(live);
+
+        // Derived from content rather than the local version counter so every node serves the same tag;
+        // summed so that the slot order (which can differ between nodes) does not matter
+        long hash = 0;
+        long newest = lastRemoval;
+        for (GdprArticleDto article : live) {
+            long articleHash = article.getId().getMostSignificantBits();
+            articleHash = 31 * articleHash + article.getId().getLeastSignificantBits();
+            articleHash = 31 * articleHash + lastModifiedOf(article);
+            hash += articleHash * 0x9E3779B97F4A7C15L;
+            newest = Math.max(newest, lastModifiedOf(article));
+        }
+        this.eTag = "W/\"" + live.size() + "-" + Long.toHexString(hash) + "\"";
+        this.lastModified = newest;
+        this.summaries = Collections.unmodifiableList(liveSummaries);
+        this.suggester = ArticleSuggester.build(live);
+        this.keywordFacets = KeywordFacets.build(articles);
+        this.citationGraph = CitationGraph.build(articles);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Weak entity tag covering every article representation derived from this snapshot.
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * Newest {@code updatedAt} in the catalog, or the time of the last removal if that is later.
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public List<GdprArticleDto> getArticles() {
+        return listing;
+    }
+
+    /**
+     * Same order as {@link #getArticles()}, without content.
+     */
+    public List<GdprArticleSummaryDto> getSummaries() {
+        return summaries;
+    }
+
+    public int size() {
+        return listing.size();
+    }
+
+    public Optional<GdprArticleDto> findById(UUID id) {
+        Integer ordinal = ordinalById.get(id);
+        return ordinal == null ? Optional.empty() : Optional.of(articles[ordinal]);
+    }
+
+    public List<GdprArticleDto> findByNumber(String articleNumber) {
+        int[] ordinals = ordinalsByNumber.get(articleNumber);
+        if (ordinals == null) {
+            return List.of();
+        }
+        List<GdprArticleDto> result = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            result.add(articles[ordinal]);
+        }
+        return result;
+    }
+
+    /**
+     * BM25-ranked search, best match first.
+     */
+    public List<GdprArticleDto> search(String query, int limit) {
+        return search(query, limit, null);
+    }
+
+    /**
+     * BM25-ranked search among the articles in {@code filter} (see {@link #keywordFilter}).
+     */
+    public List<GdprArticleDto> search(String query, int limit, BitSet filter) {
+        List<ArticleSearchIndex.Hit> hits = searchIndex.search(query, limit, filter);
+        List<GdprArticleDto> result = new ArrayList<>(hits.size());
+        for (ArticleSearchIndex.Hit hit : hits) {
+            result.add(articles[hit.ordinal()]);
+        }
+        return result;
+    }
+
+    /**
+     * Articles carrying all (or any) of {@code keywords}, or {@code null} when none are given.
+     */
+    public BitSet keywordFilter(Collection<String> keywords, KeywordFacets.Match match) {
+        return keywordFacets.filter(keywords, match);
+    }
+
+    /**
+     * The articles in {@code filter}, in listing order.
+     */
+    public List<GdprArticleDto> filter(BitSet filter) {
+        List<GdprArticleDto> result = new ArrayList<>();
+        for (GdprArticleDto article : listing) {
+            if (filter.get(ordinalById.get(article.getId()))) {
+                result.add(article);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Keyword counts over the articles in {@code filter}, or over the whole catalog when it is null.
+     */
+    public List<KeywordFacetDto> keywordCounts(BitSet filter) {
+        return keywordFacets.counts(filter);
+    }
+
+    /**
+     * Articles cited by and citing the article, or empty if there is no such article.
+     */
+    public Optional<ArticleReferencesDto> findReferences(UUID id) {
+        Integer ordinal = ordinalById.get(id);
+        if (ordinal == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new ArticleReferencesDto(id, summariesOf(citationGraph.references(ordinal)),
+                summariesOf(citationGraph.referencedBy(ordinal))));
+    }
+
+    /**
+     * Every cross-reference in the catalog as a pair of article ids.
+     */
+    public Set<Citation> getCitations() {
+        Set<Citation> citations = new HashSet<>();
+        for (int source = 0; source < articles.length; source++) {
+            for (int target : citationGraph.references(source)) {
+                citations.add(new Citation(articles[source].getId(), articles[target].getId()));
+            }
+        }
+        return citations;
+    }
+
+    /**
+     * Ordinals of the given articles, skipping ids that are not in the catalog.
+     */
+    public BitSet ordinalsOf(Collection<UUID> ids) {
+        BitSet ordinals = new BitSet(articles.length);
+        for (UUID id : ids) {
+            Integer ordinal = ordinalById.get(id);
+            if (ordinal != null) {
+                ordinals.set(ordinal);
+            }
+        }
+        return ordinals;
+    }
+
+    /**
+     * Copies of {@code listed} with {@code saved} set from the ordinals in {@code saved}.
+     */
+    public List<GdprArticleDto> withSavedFlags(List<GdprArticleDto> listed, BitSet saved) {
+        List<GdprArticleDto> result = new ArrayList<>(listed.size());
+        for (GdprArticleDto article : listed) {
+            GdprArticleDto copy = new GdprArticleDto();
+            copy.setId(article.getId());
+            copy.setArticleNumber(article.getArticleNumber());
+            copy.setTitle(article.getTitle());
+            copy.setContent(article.getContent());
+            copy.setKeywords(article.getKeywords());
+            copy.setUpdatedAt(article.getUpdatedAt());
+            copy.setSaved(isSet(saved, article.getId()));
+            result.add(copy);
+        }
+        return result;
+    }
+
+    /**
+     * {@link #getSummaries()} with {@code saved} set from the ordinals in {@code saved}.
+     */
+    public List<GdprArticleSummaryDto> summariesWithSavedFlags(BitSet saved) {
+        List<GdprArticleSummaryDto> result = new ArrayList<>(summaries.size());
+        for (GdprArticleSummaryDto summary : summaries) {
+            result.add(new GdprArticleSummaryDto(summary.getId(), summary.getArticleNumber(), summary.getTitle(),
+                    summary.getKeywords(), isSet(saved, summary.getId())));
+        }
+        return result;
+    }
+
+    public List<ArticleSuggestionDto> suggest(String prefix, int limit) {
+        return suggester.suggest(prefix, limit);
+    }
+
+    CatalogSnapshot with(long newVersion, GdprArticleDto article) {
+        Integer ordinal = ordinalById.get(article.getId());
+        int slot = ordinal == null ? articles.length : ordinal;
+        GdprArticleDto[] copy = Arrays.copyOf(articles, ordinal == null ? articles.length + 1 : articles.length);
+        copy[slot] = article;
+        return new CatalogSnapshot(newVersion, copy, lastRemoval, searchIndex.with(slot, article));
+    }
+
+    CatalogSnapshot without(long newVersion, UUID id) {
+        Integer ordinal = ordinalById.get(id);
+        if (ordinal == null) {
+            return this;
+        }
+        GdprArticleDto[] copy = articles.clone();
+        copy[ordinal] = null;
+        return new CatalogSnapshot(newVersion, copy, System.currentTimeMillis(), searchIndex.without(ordinal));
+    }
+
+    /**
+     * Full rebuild that keeps the ordinals of articles that are already known.
+     */
+    CatalogSnapshot replaceAll(long newVersion, List<GdprArticleDto> all) {
+        GdprArticleDto[] copy = new GdprArticleDto[articles.length];
+        List<GdprArticleDto> added = new ArrayList<>();
+        for (GdprArticleDto article : all) {
+            Integer ordinal = ordinalById.get(article.getId());
+            if (ordinal != null) {
+                copy[ordinal] = article;
+            } else {
+                added.add(article);
+            }
+        }
+        added.sort(ARTICLE_NUMBER_ORDER);
+        copy = Arrays.copyOf(copy, copy.length + added.size());
+        for (int i = 0; i < added.size(); i++) {
+            copy[articles.length + i] = added.get(i);
+        }
+        boolean removed = all.size() - added.size() < ordinalById.size();
+        return new CatalogSnapshot(newVersion, copy, removed ? System.currentTimeMillis() : lastRemoval);
+    }
+
+    static CatalogSnapshot empty() {
+        return new CatalogSnapshot(0, new GdprArticleDto[0], 0);
+    }
+
+    public static String eTagOf(GdprArticleDto article) {
+        return "W/\"" + article.getId() + "-" + Long.toHexString(lastModifiedOf(article)) + "\"";
+    }
+
+    public static long lastModifiedOf(GdprArticleDto article) {
+        return article.getUpdatedAt() == null ? 0
+                : article.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // Ordinals are never reused, so an article listed by an older snapshot still maps to its own slot
+    private boolean isSet(BitSet ordinals, UUID id) {
+        Integer ordinal = ordinalById.get(id);
+        return ordinal != null && ordinals.get(ordinal);
+    }
+
+    private List<GdprArticleSummaryDto> summariesOf(int[] ordinals) {
+        List<GdprArticleDto> cited = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            cited.add(articles[ordinal]);
+        }
+        cited.sort(ARTICLE_NUMBER_ORDER);
+        return cited.stream().map(CatalogSnapshot::summaryOf).toList();
+    }
+
+    private static GdprArticleSummaryDto summaryOf(GdprArticleDto article) {
+        return new GdprArticleSummaryDto(article.getId(), article.getArticleNumber(), article.getTitle(),
+                article.getKeywords(), null);
+    }
+
+    private static long numericPart(String articleNumber) {
+        if (articleNumber == null) {
+            return Long.MAX_VALUE;
+        }
+        Matcher matcher = NUMBER.matcher(articleNumber);
+        return matcher.find() && matcher.group().length() < 19 ? Long.parseLong(matcher.group()) : Long.MAX_VALUE;
+    }
+
+    private static int[] concat(int[] left, int[] right) {
+        int[] merged = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, merged, left.length, right.length);
+        return merged;
+    }
+
+    public record Citation(UUID sourceId, UUID targetId) {
+    }
+}
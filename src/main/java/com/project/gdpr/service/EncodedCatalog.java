@@ -0,0 +1,100 @@
+package com.project.gdpr.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * One JSON document held in every content coding we serve: identity, gzip and deflate (zlib). The JDK
+ * has no Brotli encoder, so deflate is the alternative to gzip. Built once per catalog version.
+ */
+public final class EncodedCatalog {
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+
+    private final Variant identity;
+    private final Variant gzip;
+    private final Variant deflate;
+
+    EncodedCatalog(byte[] json) {
+        this.identity = new Variant(null, json);
+        this.gzip = new Variant(GZIP, compress(json, true));
+        this.deflate = new Variant(DEFLATE, compress(json, false));
+    }
+
+    /**
+     * Picks the smallest acceptable coding: gzip unless the client ranks deflate higher, then
+     * deflate, then the plain bytes.
+     */
+    public Variant select(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return identity;
+        }
+        double any = 0;
+        double gzipQuality = -1;
+        double deflateQuality = -1;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(params);
+            switch (coding) {
+                case "*" -> any = quality;
+                case GZIP, "x-gzip" -> gzipQuality = Math.max(gzipQuality, quality);
+                case DEFLATE -> deflateQuality = quality;
+                default -> { }
+            }
+        }
+        gzipQuality = gzipQuality < 0 ? any : gzipQuality;
+        deflateQuality = deflateQuality < 0 ? any : deflateQuality;
+        if (gzipQuality > 0 && gzipQuality >= deflateQuality) {
+            return gzip;
+        }
+        return deflateQuality > 0 ? deflate : identity;
+    }
+
+    private static double quality(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] compress(byte[] json, boolean gzip) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (OutputStream out = gzip ? new BestGzipOutputStream(buffer) : new DeflaterOutputStream(buffer, deflater)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return buffer.toByteArray();
+    }
+
+    // GZIPOutputStream has no level parameter; nothing has been deflated yet when the level is raised
+    private static final class BestGzipOutputStream extends GZIPOutputStream {
+        BestGzipOutputStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+
+    /**
+     * @param contentEncoding value for the Content-Encoding header, or {@code null} for identity
+     */
+    public record Variant(String contentEncoding, byte[] body) {
+    }
+}
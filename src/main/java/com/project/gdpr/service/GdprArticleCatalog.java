@@ -0,0 +1,90 @@
+package com.project.gdpr.service;
+
+import com.project.gdpr.config.AfterCommit;
+import com.project.gdpr.dto.GdprArticleDto;
+import com.project.gdpr.entity.GdprArticle;
+import com.project.gdpr.repository.ArticleCatalogFingerprint;
+import com.project.gdpr.repository.GDPRArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds the GDPR article corpus in memory as an immutable {@link CatalogSnapshot}. Reads never touch
+ * the database; writes made through {@link GdprArticleService} swap in a new snapshot after commit.
+ * A periodic fingerprint check picks up changes made by other application nodes.
+ */
+@Component
+@RequiredArgsConstructor
+public class GdprArticleCatalog {
+    private final GDPRArticleRepository gdprArticleRepository;
+
+    private volatile CatalogSnapshot snapshot;
+    private ArticleCatalogFingerprint fingerprint;
+
+    public CatalogSnapshot snapshot() {
+        CatalogSnapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized CatalogSnapshot reload() {
+        CatalogSnapshot base = snapshot != null ? snapshot : CatalogSnapshot.empty();
+        fingerprint = gdprArticleRepository.fingerprint();
+        List<GdprArticleDto> articles = gdprArticleRepository.findAll().stream()
+                .map(GdprArticleCatalog::toEntry)
+                .toList();
+        snapshot = base.replaceAll(base.getVersion() + 1, articles);
+        return snapshot;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${application.gdpr.catalog.refresh-interval:60000}",
+            initialDelayString = "${application.gdpr.catalog.refresh-interval:60000}")
+    public void refreshIfChanged() {
+        ArticleCatalogFingerprint current = gdprArticleRepository.fingerprint();
+        synchronized (this) {
+            if (snapshot != null && current.equals(fingerprint)) {
+                return;
+            }
+        }
+        reload();
+    }
+
+    public void put(GdprArticle article) {
+        // Copied after commit, once the flush has run @PreUpdate and stamped updatedAt
+        AfterCommit.run(() -> {
+            GdprArticleDto entry = toEntry(article);
+            swap(current -> current.with(current.getVersion() + 1, entry));
+        });
+    }
+
+    public void remove(UUID id) {
+        AfterCommit.run(() -> swap(current -> current.without(current.getVersion() + 1, id)));
+    }
+
+    private synchronized void swap(UnaryOperator<CatalogSnapshot> change) {
+        // Not loaded yet: the first read will load the committed state anyway
+        if (snapshot != null) {
+            snapshot = change.apply(snapshot);
+            fingerprint = null;
+        }
+    }
+
+    private static GdprArticleDto toEntry(GdprArticle article) {
+        GdprArticleDto dto = new GdprArticleDto();
+        dto.setId(article.getId());
+        dto.setArticleNumber(article.getArticleNumber());
+        dto.setTitle(article.getTitle());
+        dto.setContent(article.getContent());
+        dto.setKeywords(article.getKeywords() != null ? article.getKeywords().clone() : null);
+        dto.setUpdatedAt(article.getUpdatedAt());
+        return dto;
+    }
+}
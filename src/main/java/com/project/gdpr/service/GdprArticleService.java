@@ -1,85 +1,222 @@
 package com.project.gdpr.service;
 
+import com.project.gdpr.config.AfterCommit;
+import com.project.gdpr.dto.ArticleReferencesDto;
+import com.project.gdpr.dto.ArticleSearchResultDto;
+import com.project.gdpr.dto.ArticleSuggestionDto;
 import com.project.gdpr.dto.GdprArticleDto;
+import com.project.gdpr.dto.GdprArticleSummaryDto;
+import com.project.gdpr.dto.KeywordFacetDto;
+import com.project.gdpr.dto.SavedArticleBatchResultDto;
 import com.project.gdpr.dto.SavedArticleDto;
+import com.project.gdpr.dto.SavedArticleSummaryDto;
 import com.project.gdpr.entity.GdprArticle;
 import com.project.gdpr.entity.SavedArticle;
-import com.project.gdpr.entity.User;
 import com.project.gdpr.exception.ResourceNotFoundException;
 import com.project.gdpr.exception.DuplicateResourceException;
+import com.project.gdpr.repository.ArticleSearchHit;
 import com.project.gdpr.repository.GDPRArticleRepository;
+import com.project.gdpr.repository.SavedArticleKey;
 import com.project.gdpr.repository.SavedArticleRepository;
 import com.project.gdpr.repository.UserRepository;
+import com.project.gdpr.search.KeywordFacets;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class GdprArticleService {
+    static final int DEFAULT_SEARCH_LIMIT = 50;
+    static final int MAX_SEARCH_LIMIT = 200;
+    static final int MAX_SUGGESTIONS = 20;
+
     private final GDPRArticleRepository gdprArticleRepository;
     private final SavedArticleRepository savedArticleRepository;
     private final UserRepository userRepository;
+    private final GdprArticleCatalog gdprArticleCatalog;
+    private final CatalogEncoder catalogEncoder;
+    private final SearchResultCache searchResultCache;
+    private final ArticleReferenceStore articleReferenceStore;
+    private final SavedArticleMembership savedArticleMembership;
 
-    @Transactional(readOnly = true)
+    // Served from the in-memory catalog; no transaction so no connection is checked out
     public List<GdprArticleDto> getAllArticles() {
-        return gdprArticleRepository.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return gdprArticleCatalog.snapshot().getArticles();
+    }
+
+    public List<GdprArticleSummaryDto> getArticleSummaries() {
+        return gdprArticleCatalog.snapshot().getSummaries();
+    }
+
+    // Pre-serialized forms of the two listings above, in the best coding the client accepts
+    public EncodedCatalog.Variant getEncodedArticles(String acceptEncoding) {
+        return catalogEncoder.articles(gdprArticleCatalog.snapshot()).select(acceptEncoding);
+    }
+
+    public EncodedCatalog.Variant getEncodedArticleSummaries(String acceptEncoding) {
+        return catalogEncoder.summaries(gdprArticleCatalog.snapshot()).select(acceptEncoding);
+    }
+
+    public CacheValidators getCatalogValidators() {
+        CatalogSnapshot catalog = gdprArticleCatalog.snapshot();
+        return new CacheValidators(catalog.getETag(), catalog.getLastModified());
+    }
+
+    /**
+     * Validators for listings carrying the user's saved flags: the tag also covers the user's saved
+     * articles, and there is no last-modified time since unsaving an article does not advance it.
+     */
+    public CacheValidators getCatalogValidators(UUID userId) {
+        String catalogTag = gdprArticleCatalog.snapshot().getETag();
+        long hash = 0;
+        for (long word : savedArticleMembership.get(userId).toLongArray()) {
+            hash = 31 * hash + word * 0x9E3779B97F4A7C15L;
+        }
+        return new CacheValidators(catalogTag.substring(0, catalogTag.length() - 1) + "-" + Long.toHexString(hash)
+                + "\"", -1);
+    }
+
+    /**
+     * Copies of {@code articles} flagged with whether the user has saved each one; the list itself when
+     * there is no user.
+     */
+    public List<GdprArticleDto> withSavedFlags(List<GdprArticleDto> articles, UUID userId) {
+        if (userId == null) {
+            return articles;
+        }
+        return gdprArticleCatalog.snapshot().withSavedFlags(articles, savedArticleMembership.get(userId));
+    }
+
+    public List<GdprArticleSummaryDto> getArticleSummaries(UUID userId) {
+        return gdprArticleCatalog.snapshot().summariesWithSavedFlags(savedArticleMembership.get(userId));
+    }
+
+    public CacheValidators getArticleValidators(UUID id) {
+        GdprArticleDto article = getArticleById(id);
+        return new CacheValidators(CatalogSnapshot.eTagOf(article), CatalogSnapshot.lastModifiedOf(article));
     }
 
-    @Transactional(readOnly = true)
     public GdprArticleDto getArticleById(UUID id) {
-        return gdprArticleRepository.findById(id)
-                .map(this::convertToDto)
+        return gdprArticleCatalog.snapshot().findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Article not found"));
     }
 
-    @Transactional(readOnly = true)
     public List<GdprArticleDto> searchArticles(String searchTerm) {
-        try {
-            List<GdprArticle> searchResults = gdprArticleRepository.searchArticles(searchTerm);
-            return searchResults.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-        } catch (Exception e) {
-            // Log the full exception details
-            System.err.println("Error searching articles: " + e.getMessage());
-            e.printStackTrace();
-            throw new RuntimeException("Error searching articles", e);
-       }
+        return searchArticles(searchTerm, DEFAULT_SEARCH_LIMIT);
+    }
+
+    public List<GdprArticleDto> searchArticles(String searchTerm, int limit) {
+        return searchArticles(searchTerm, limit, null, KeywordFacets.Match.ALL);
+    }
+
+    /**
+     * Ranked search restricted to articles carrying all (or any) of {@code keywords}. With a blank
+     * term, every article matching the keywords is returned in listing order.
+     */
+    public List<GdprArticleDto> searchArticles(String searchTerm, int limit, List<String> keywords,
+                                               KeywordFacets.Match match) {
+        CatalogSnapshot catalog = gdprArticleCatalog.snapshot();
+        BitSet filter = catalog.keywordFilter(keywords, match);
+        if (searchTerm == null || searchTerm.isBlank()) {
+            return filter == null ? catalog.getArticles() : catalog.filter(filter);
+        }
+        int boundedLimit = Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT);
+        return searchResultCache.articles(catalog.getVersion(), searchTerm, boundedLimit, filter,
+                term -> catalog.search(term, boundedLimit, filter));
+    }
+
+    /**
+     * Keyword counts over the articles carrying all (or any) of {@code keywords}, or over the whole
+     * catalog when none are given.
+     */
+    public List<KeywordFacetDto> getKeywordFacets(List<String> keywords, KeywordFacets.Match match) {
+        CatalogSnapshot catalog = gdprArticleCatalog.snapshot();
+        return catalog.keywordCounts(catalog.keywordFilter(keywords, match));
     }
 
     @Transactional(readOnly = true)
+    public List<ArticleSearchResultDto> searchArticlesFullText(String query, int limit) {
+        CatalogSnapshot catalog = gdprArticleCatalog.snapshot();
+        List<ArticleSearchResultDto> results = new ArrayList<>();
+        for (ArticleSearchHit hit : gdprArticleRepository.searchFullText(query,
+                Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT))) {
+            // An article committed after the last catalog refresh is left out rather than loaded
+            catalog.findById(hit.getId()).ifPresent(article -> results.add(toSearchResult(article, hit)));
+        }
+        return results;
+    }
+
+    public ArticleReferencesDto getArticleReferences(UUID id) {
+        return gdprArticleCatalog.snapshot().findReferences(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Article not found"));
+    }
+
+    public List<ArticleSuggestionDto> suggest(String prefix, int limit) {
+        return gdprArticleCatalog.snapshot().suggest(prefix, Math.min(Math.max(limit, 1), MAX_SUGGESTIONS));
+    }
+
     public List<GdprArticleDto> getArticlesByNumber(String articleNumber) {
-        return gdprArticleRepository.findByArticleNumber(articleNumber).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return gdprArticleCatalog.snapshot().findByNumber(articleNumber);
     }
 
     @Transactional
     public SavedArticleDto saveArticleForUser(UUID articleId, UUID userId) {
-        if (savedArticleRepository.existsByUserIdAndArticleId(userId, articleId)) {
+        // Existence is checked against the catalog; the insert itself is the only round trip
+        GdprArticleDto article = getArticleById(articleId);
+        LocalDateTime savedAt = LocalDateTime.now();
+        List<SavedArticleKey> inserted = savedArticleRepository.insertIfAbsent(userId, List.of(articleId), savedAt);
+        if (inserted.isEmpty()) {
             throw new DuplicateResourceException("Article already saved for this user");
         }
+        savedArticleMembership.added(userId, List.of(articleId));
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        
-        GdprArticle article = gdprArticleRepository.findById(articleId)
-                .orElseThrow(() -> new ResourceNotFoundException("Article not found"));
+        SavedArticleDto dto = new SavedArticleDto();
+        dto.setId(inserted.get(0).getId());
+        dto.setArticleId(article.getId());
+        dto.setArticleNumber(article.getArticleNumber());
+        dto.setTitle(article.getTitle());
+        dto.setContent(article.getContent());
+        dto.setKeywords(article.getKeywords());
+        dto.setSavedAt(savedAt);
+        return dto;
+    }
 
-        SavedArticle savedArticle = new SavedArticle();
-        savedArticle.setUser(user);
-        savedArticle.setArticle(article);
-        savedArticle.setSavedAt(LocalDateTime.now());
+    @Transactional
+    public SavedArticleBatchResultDto saveArticlesForUser(List<UUID> articleIds, UUID userId) {
+        CatalogSnapshot catalog = gdprArticleCatalog.snapshot();
+        List<UUID> known = new ArrayList<>();
+        List<UUID> notFound = new ArrayList<>();
+        for (UUID articleId : new LinkedHashSet<>(articleIds)) {
+            (catalog.findById(articleId).isPresent() ? known : notFound).add(articleId);
+        }
+        Set<UUID> inserted = known.isEmpty() ? Set.of()
+                : articleIdsOf(savedArticleRepository.insertIfAbsent(userId, known, LocalDateTime.now()));
+        savedArticleMembership.added(userId, inserted);
+        return batchResult(known, inserted, notFound);
+    }
 
-        return convertSavedArticleToDto(savedArticleRepository.save(savedArticle));
+    @Transactional
+    public SavedArticleBatchResultDto removeSavedArticlesForUser(List<UUID> articleIds, UUID userId) {
+        CatalogSnapshot catalog = gdprArticleCatalog.snapshot();
+        Set<UUID> removed = articleIdsOf(savedArticleRepository.deleteByUserIdAndArticleIds(userId, articleIds));
+        savedArticleMembership.removed(userId, removed);
+        List<UUID> known = new ArrayList<>();
+        List<UUID> notFound = new ArrayList<>();
+        for (UUID articleId : new LinkedHashSet<>(articleIds)) {
+            (removed.contains(articleId) || catalog.findById(articleId).isPresent() ? known : notFound).add(articleId);
+        }
+        return batchResult(known, removed, notFound);
     }
 
     @Transactional(readOnly = true)
@@ -94,40 +231,60 @@ public class GdprArticleService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<SavedArticleSummaryDto> getUserSavedArticleSummaries(UUID userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        return savedArticleRepository.findSummariesByUserId(userId);
+    }
+
     @Transactional
     public void removeSavedArticle(UUID userId, UUID savedArticleId) {
-        SavedArticle savedArticle = savedArticleRepository.findById(savedArticleId)
-                .orElseThrow(() -> new ResourceNotFoundException("Saved article not found"));
-
-        if (!savedArticle.getUser().getId().equals(userId)) {
-            throw new ResourceNotFoundException("Saved article not found for this user");
+        // Someone else's saved article is reported as missing, not as forbidden
+        List<SavedArticleKey> removed = savedArticleRepository.deleteByIdAndUserId(savedArticleId, userId);
+        if (removed.isEmpty()) {
+            throw new ResourceNotFoundException("Saved article not found");
         }
-
-        savedArticleRepository.delete(savedArticle);
+        savedArticleMembership.removed(userId, articleIdsOf(removed));
     }
 
     @Transactional
     public GdprArticleDto createArticle(GdprArticleDto articleDto) {
+        if (gdprArticleRepository.existsByArticleNumber(articleDto.getArticleNumber())) {
+            throw new DuplicateResourceException("Article number already exists");
+        }
+
         GdprArticle article = new GdprArticle();
         article.setArticleNumber(articleDto.getArticleNumber());
         article.setTitle(articleDto.getTitle());
         article.setContent(articleDto.getContent());
         article.setKeywords(articleDto.getKeywords());
 
-        return convertToDto(gdprArticleRepository.save(article));
+        GdprArticle saved = gdprArticleRepository.save(article);
+        gdprArticleCatalog.put(saved);
+        syncReferences();
+        return convertToDto(saved);
     }
 
     @Transactional
     public GdprArticleDto updateArticle(UUID id, GdprArticleDto articleDto) {
         GdprArticle article = gdprArticleRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Article not found"));
+        if (gdprArticleRepository.existsByArticleNumberAndIdNot(articleDto.getArticleNumber(), id)) {
+            throw new DuplicateResourceException("Article number already exists");
+        }
 
         article.setArticleNumber(articleDto.getArticleNumber());
         article.setTitle(articleDto.getTitle());
         article.setContent(articleDto.getContent());
         article.setKeywords(articleDto.getKeywords());
 
-        return convertToDto(gdprArticleRepository.save(article));
+        // Flush so @PreUpdate stamps updatedAt before the response is built
+        GdprArticle saved = gdprArticleRepository.saveAndFlush(article);
+        gdprArticleCatalog.put(saved);
+        syncReferences();
+        return convertToDto(saved);
     }
 
     @Transactional
@@ -136,6 +293,8 @@ public class GdprArticleService {
             throw new ResourceNotFoundException("Article not found");
         }
         gdprArticleRepository.deleteById(id);
+        gdprArticleCatalog.remove(id);
+        syncReferences();
     }
 
     private GdprArticleDto convertToDto(GdprArticle article) {
@@ -145,9 +304,43 @@ public class GdprArticleService {
         dto.setTitle(article.getTitle());
         dto.setContent(article.getContent());
         dto.setKeywords(article.getKeywords());
+        dto.setUpdatedAt(article.getUpdatedAt());
         return dto;
     }
 
+    // Registered after the catalog swap, so it sees the snapshot that includes this write
+    private void syncReferences() {
+        AfterCommit.run(() -> articleReferenceStore.sync(gdprArticleCatalog.snapshot()));
+    }
+
+    private ArticleSearchResultDto toSearchResult(GdprArticleDto article, ArticleSearchHit hit) {
+        ArticleSearchResultDto dto = new ArticleSearchResultDto();
+        dto.setId(article.getId());
+        dto.setArticleNumber(article.getArticleNumber());
+        dto.setTitle(article.getTitle());
+        dto.setKeywords(article.getKeywords());
+        dto.setRank(hit.getRank());
+        dto.setSnippet(hit.getSnippet());
+        return dto;
+    }
+
+    private static Set<UUID> articleIdsOf(List<SavedArticleKey> keys) {
+        Set<UUID> articleIds = new HashSet<>();
+        for (SavedArticleKey key : keys) {
+            articleIds.add(key.getArticleId());
+        }
+        return articleIds;
+    }
+
+    private static SavedArticleBatchResultDto batchResult(List<UUID> known, Set<UUID> changed, List<UUID> notFound) {
+        List<UUID> updated = new ArrayList<>();
+        List<UUID> unchanged = new ArrayList<>();
+        for (UUID articleId : known) {
+            (changed.contains(articleId) ? updated : unchanged).add(articleId);
+        }
+        return new SavedArticleBatchResultDto(updated, unchanged, notFound);
+    }
+
     private SavedArticleDto convertSavedArticleToDto(SavedArticle savedArticle) {
         SavedArticleDto dto = new SavedArticleDto();
         dto.setId(savedArticle.getId());
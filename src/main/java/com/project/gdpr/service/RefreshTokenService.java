@@ -0,0 +1,72 @@
+package com.project.gdpr.service;
+
+import com.project.gdpr.config.JwtService;
+import com.project.gdpr.config.VerifiedToken;
+import com.project.gdpr.entity.RefreshToken;
+import com.project.gdpr.entity.User;
+import com.project.gdpr.exception.UnauthorizedAccessException;
+import com.project.gdpr.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtService jwtService;
+
+    public record Rotation(User user, String refreshToken) {
+    }
+
+    @Transactional
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID());
+    }
+
+    /**
+     * Exchanges a refresh token for a new one in the same family. Presenting a token that was
+     * already used or revoked is treated as theft: the whole family is revoked.
+     */
+    @Transactional(noRollbackFor = UnauthorizedAccessException.class)
+    public Rotation rotate(String refreshToken) {
+        UUID tokenId = jwtService.verify(refreshToken)
+                .filter(VerifiedToken::isRefreshToken)
+                .map(token -> token.getClaims().getId())
+                .map(UUID::fromString)
+                .orElseThrow(() -> new UnauthorizedAccessException("Invalid refresh token"));
+
+        RefreshToken stored = refreshTokenRepository.findByIdWithUser(tokenId)
+                .orElseThrow(() -> new UnauthorizedAccessException("Invalid refresh token"));
+
+        if (stored.isRevoked() || stored.getUsedAt() != null
+                || refreshTokenRepository.markUsed(tokenId, LocalDateTime.now()) == 0) {
+            refreshTokenRepository.revokeFamily(stored.getFamilyId());
+            throw new UnauthorizedAccessException("Refresh token has already been used");
+        }
+
+        User user = stored.getUser();
+        return new Rotation(user, issue(user, stored.getFamilyId()));
+    }
+
+    @Scheduled(fixedDelayString = "${application.security.jwt.refresh-token.purge-interval:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private String issue(User user, UUID familyId) {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setUser(user);
+        refreshToken.setFamilyId(familyId);
+        refreshToken.setExpiresAt(LocalDateTime.now().plus(jwtService.getRefreshExpiration(), ChronoUnit.MILLIS));
+
+        RefreshToken saved = refreshTokenRepository.save(refreshToken);
+        return jwtService.generateRefreshToken(user, saved.getId());
+    }
+}
@@ -0,0 +1,83 @@
+package com.project.gdpr.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.gdpr.config.AfterCommit;
+import com.project.gdpr.repository.SavedArticleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Size- and TTL-bounded cache of the articles each user has saved, as a set of catalog ordinals, so
+ * article listings can flag saved articles without touching saved_articles. Saves and removals made
+ * through this node update the cached set once committed; the TTL bounds how long a change made on
+ * another node goes unseen. Published as {@code cache.*} metrics with {@code cache=saved-articles}.
+ */
+@Component
+public class SavedArticleMembership {
+    private final Cache<UUID, BitSet> cache;
+    private final SavedArticleRepository savedArticleRepository;
+    private final GdprArticleCatalog gdprArticleCatalog;
+
+    public SavedArticleMembership(
+            SavedArticleRepository savedArticleRepository,
+            GdprArticleCatalog gdprArticleCatalog,
+            @Value("${application.gdpr.saved-cache.max-size:10000}") long maxSize,
+            @Value("${application.gdpr.saved-cache.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.savedArticleRepository = savedArticleRepository;
+        this.gdprArticleCatalog = gdprArticleCatalog;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "saved-articles");
+    }
+
+    /**
+     * Ordinals of the articles the user has saved. The set is shared and must not be modified.
+     */
+    public BitSet get(UUID userId) {
+        return cache.get(userId, this::load);
+    }
+
+    public void added(UUID userId, Collection<UUID> articleIds) {
+        update(userId, articleIds, true);
+    }
+
+    public void removed(UUID userId, Collection<UUID> articleIds) {
+        update(userId, articleIds, false);
+    }
+
+    private BitSet load(UUID userId) {
+        return gdprArticleCatalog.snapshot().ordinalsOf(savedArticleRepository.findArticleIdsByUserId(userId));
+    }
+
+    // Applied after commit so a concurrent load cannot cache the old rows over it. Setting or clearing
+    // bits is idempotent, so it does not matter whether a load already saw the committed change.
+    private void update(UUID userId, Collection<UUID> articleIds, boolean saved) {
+        if (articleIds.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            BitSet changed = gdprArticleCatalog.snapshot().ordinalsOf(articleIds);
+            cache.asMap().computeIfPresent(userId, (id, ordinals) -> {
+                BitSet copy = (BitSet) ordinals.clone();
+                if (saved) {
+                    copy.or(changed);
+                } else {
+                    copy.andNot(changed);
+                }
+                return copy;
+            });
+        });
+    }
+}
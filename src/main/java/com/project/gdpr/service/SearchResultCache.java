@@ -0,0 +1,99 @@
+package com.project.gdpr.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.gdpr.config.AfterCommit;
+import com.project.gdpr.dto.GdprArticleDto;
+import com.project.gdpr.dto.TaskPageDto;
+import com.project.gdpr.entity.Priority;
+import com.project.gdpr.entity.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Size- and TTL-bounded caches of article and task search results keyed by the normalized query.
+ * Concurrent lookups of the same key share one execution of the search. Article entries are keyed
+ * by catalog version, so any article write makes them unreachable; task entries are keyed by a
+ * generation that every committed task write advances. Published as {@code cache.*} metrics with
+ * {@code cache=article-search} and {@code cache=task-search}.
+ */
+@Component
+public class SearchResultCache {
+    private final Cache<ArticleQuery, List<GdprArticleDto>> articles;
+    private final Cache<TaskQuery, TaskPageDto> tasks;
+    private final AtomicLong catalogVersion = new AtomicLong(-1);
+    private final AtomicLong taskGeneration = new AtomicLong();
+
+    public SearchResultCache(
+            @Value("${application.search.cache.max-size:1000}") long maxSize,
+            @Value("${application.search.cache.article-ttl:10m}") Duration articleTtl,
+            @Value("${application.search.cache.task-ttl:30s}") Duration taskTtl,
+            MeterRegistry meterRegistry) {
+        this.articles = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(articleTtl)
+                .recordStats()
+                .build();
+        this.tasks = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(taskTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, articles, "article-search");
+        CaffeineCacheMetrics.monitor(meterRegistry, tasks, "task-search");
+    }
+
+    public static String normalize(String term) {
+        return term == null ? "" : term.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Results of {@code search} for the normalized {@code term} against catalog {@code version},
+     * restricted to the ordinals in {@code filter} (null for none).
+     */
+    public List<GdprArticleDto> articles(long version, String term, int limit, BitSet filter,
+                                         Function<String, List<GdprArticleDto>> search) {
+        long previous = catalogVersion.getAndAccumulate(version, Math::max);
+        if (previous < version) {
+            articles.asMap().keySet().removeIf(query -> query.version() < version);
+        }
+        String normalized = normalize(term);
+        return articles.get(new ArticleQuery(version, normalized, limit, filter), query -> List.copyOf(search.apply(normalized)));
+    }
+
+    /**
+     * The page of {@code search} results for the normalized {@code term} and filters after {@code after}
+     * (null for the first page), as of the last task write.
+     */
+    public TaskPageDto tasks(String term, TaskStatus status, Priority priority, TaskCursor.Sort sort,
+                             TaskCursor after, int size, Function<String, TaskPageDto> search) {
+        String normalized = normalize(term);
+        TaskQuery key = new TaskQuery(taskGeneration.get(), normalized, status, priority, sort, after, size);
+        return tasks.get(key, query -> search.apply(normalized));
+    }
+
+    public void invalidateTasks() {
+        // Advance once the write is visible, so a search still reading the old rows caches under the old key
+        AfterCommit.run(() -> {
+            taskGeneration.incrementAndGet();
+            tasks.invalidateAll();
+        });
+    }
+
+    // The filter is compared by content; it is never modified once used as a key
+    private record ArticleQuery(long version, String term, int limit, BitSet filter) {
+    }
+
+    private record TaskQuery(long generation, String term, TaskStatus status, Priority priority,
+                             TaskCursor.Sort sort, TaskCursor after, int size) {
+    }
+}
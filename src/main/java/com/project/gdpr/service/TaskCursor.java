@@ -0,0 +1,50 @@
+package com.project.gdpr.service;
+
+import com.project.gdpr.dto.TaskDto;
+import com.project.gdpr.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a task listing: the sort key and id of the last task on the previous page. Clients get it
+ * as an opaque token; the sort is part of it so a cursor cannot be replayed against another ordering.
+ */
+public record TaskCursor(Sort sort, LocalDateTime key, UUID id) {
+
+    public enum Sort {
+        // Newest first
+        CREATED_AT,
+        // Soonest first, tasks without a due date last
+        DUE_DATE
+    }
+
+    static TaskCursor after(Sort sort, TaskDto last) {
+        return new TaskCursor(sort, sort == Sort.CREATED_AT ? last.getCreatedAt() : last.getDueDate(), last.getId());
+    }
+
+    public String encode() {
+        String value = sort + "|" + (key == null ? "" : key.toString()) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token, Sort sort) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != 3 || !parts[0].equals(sort.name())) {
+                throw new InvalidCursorException("Cursor does not belong to this listing");
+            }
+            // Only due dates can be missing; those tasks come last
+            if (parts[1].isEmpty() && sort == Sort.CREATED_AT) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            return new TaskCursor(sort, parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]),
+                    UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.project.gdpr.service;
 
+import com.project.gdpr.dto.TaskBatchItemDto;
+import com.project.gdpr.dto.TaskBatchResultDto;
 import com.project.gdpr.dto.TaskDto;
+import com.project.gdpr.dto.TaskFilterDto;
+import com.project.gdpr.dto.TaskPageDto;
+import com.project.gdpr.dto.TaskStatsDto;
 import com.project.gdpr.dto.UserDto;
 import com.project.gdpr.dto.TaskCreateDto;
 import com.project.gdpr.dto.CommentDto;
@@ -11,26 +16,49 @@ import com.project.gdpr.repository.TaskRepository;
 import com.project.gdpr.repository.CommentRepository;
 import com.project.gdpr.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import static com.project.gdpr.repository.TaskSpecifications.*;
+
 @Service
 @RequiredArgsConstructor
 public class TaskService {
+    static final int MAX_PAGE_SIZE = 200;
+
+    // Both end with id so that tasks sharing a timestamp still have a fixed order to resume from
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    private static final Sort SOONEST_DUE_FIRST = Sort.by(Sort.Order.asc("dueDate"), Sort.Order.asc("id"));
+    private static final Sort BY_ID = Sort.by(Sort.Order.asc("id"));
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
+    private final SearchResultCache searchResultCache;
+    private final TaskStatistics taskStatistics;
 
     @Transactional(readOnly = true)
-    public List<TaskDto> getAllTasks() {
-        return taskRepository.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public TaskPageDto getAllTasks(TaskCursor.Sort sort, String cursor, int size) {
+        return page(null, sort, decode(cursor, sort), pageSize(size), false);
     }
 
 
@@ -56,28 +84,26 @@ public class TaskService {
         task.setCreatedAt(LocalDateTime.now());
         task.setUpdatedAt(LocalDateTime.now());
 
-        return convertToDto(taskRepository.save(task));
+        Task saved = taskRepository.save(task);
+        searchResultCache.invalidateTasks();
+        taskStatistics.added(TaskStatistics.Tally.of(saved));
+        return convertToDto(saved);
     }
 
     @Transactional(readOnly = true)
     public TaskDto getTaskById(UUID id) {
-        return taskRepository.findById(id)
-                .map(this::convertToDto)
+        return taskRepository.findDtoById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
     }
 
     @Transactional(readOnly = true)
-    public List<TaskDto> getTasksByAssignee(UUID assigneeId) {
-        return taskRepository.findByAssigneeId(assigneeId).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public TaskPageDto getTasksByAssignee(UUID assigneeId, TaskCursor.Sort sort, String cursor, int size) {
+        return page(assignedTo(assigneeId), sort, decode(cursor, sort), pageSize(size), false);
     }
 
     @Transactional(readOnly = true)
-    public List<TaskDto> getTasksByCreator(UUID creatorId) {
-        return taskRepository.findByCreatorId(creatorId).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public TaskPageDto getTasksByCreator(UUID creatorId, TaskCursor.Sort sort, String cursor, int size) {
+        return page(createdBy(creatorId), sort, decode(cursor, sort), pageSize(size), false);
     }
 
     @Transactional
@@ -90,8 +116,11 @@ public class TaskService {
             throw new UnauthorizedAccessException("User not authorized to update this task");
         }
 
+        TaskStatistics.Tally before = TaskStatistics.Tally.of(task);
         task.setStatus(newStatus);
         task.setUpdatedAt(LocalDateTime.now());
+        searchResultCache.invalidateTasks();
+        taskStatistics.changed(before, TaskStatistics.Tally.of(task));
         return convertToDto(taskRepository.save(task));
     }
 
@@ -104,6 +133,7 @@ public class TaskService {
             throw new UnauthorizedAccessException("User not authorized to update this task");
         }
 
+        TaskStatistics.Tally before = TaskStatistics.Tally.of(task);
         if (taskDto.getAssigneeId() != null) {
             User assignee = userRepository.findById(taskDto.getAssigneeId())
                     .orElseThrow(() -> new ResourceNotFoundException("Assignee not found"));
@@ -117,6 +147,8 @@ public class TaskService {
         task.setDueDate(taskDto.getDueDate());
         task.setUpdatedAt(LocalDateTime.now());
 
+        searchResultCache.invalidateTasks();
+        taskStatistics.changed(before, TaskStatistics.Tally.of(task));
         return convertToDto(taskRepository.save(task));
     }
 
@@ -130,20 +162,285 @@ public class TaskService {
         }
 
         taskRepository.delete(task);
+        searchResultCache.invalidateTasks();
+        taskStatistics.removed(TaskStatistics.Tally.of(task));
+    }
+
+    // Batch writes: the users involved are read in one query and the tasks in another, and the changes
+    // go out as JDBC batches on flush (hibernate.jdbc.batch_size). Items that cannot be applied are
+    // reported in the result instead of failing the whole batch.
+
+    @Transactional
+    public TaskBatchResultDto createTasks(List<TaskCreateDto> createDtos, UUID creatorId) {
+        Set<UUID> userIds = new HashSet<>();
+        userIds.add(creatorId);
+        createDtos.stream().map(TaskCreateDto::getAssigneeId).filter(Objects::nonNull).forEach(userIds::add);
+        Map<UUID, User> users = usersById(userIds);
+        User creator = users.get(creatorId);
+        if (creator == null) {
+            throw new ResourceNotFoundException("Creator not found");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskBatchItemDto> results = new ArrayList<>(createDtos.size());
+        List<Task> tasks = new ArrayList<>(createDtos.size());
+        for (int i = 0; i < createDtos.size(); i++) {
+            TaskCreateDto createDto = createDtos.get(i);
+            User assignee = createDto.getAssigneeId() == null ? null : users.get(createDto.getAssigneeId());
+            if (createDto.getAssigneeId() != null && assignee == null) {
+                results.add(new TaskBatchItemDto(i, null, TaskBatchItemDto.Outcome.NOT_FOUND, "Assignee not found"));
+                continue;
+            }
+            Task task = new Task();
+            task.setCreator(creator);
+            task.setAssignee(assignee);
+            task.setTitle(createDto.getTitle());
+            task.setDescription(createDto.getDescription());
+            task.setPriority(createDto.getPriority());
+            task.setStatus(TaskStatus.OPEN);
+            task.setDueDate(createDto.getDueDate());
+            task.setCreatedAt(now);
+            task.setUpdatedAt(now);
+            tasks.add(task);
+            results.add(new TaskBatchItemDto(i, null, TaskBatchItemDto.Outcome.CREATED, null));
+        }
+
+        // Ids are generated in memory, so the inserts are not flushed one by one
+        Iterator<Task> saved = taskRepository.saveAll(tasks).iterator();
+        for (TaskBatchItemDto result : results) {
+            if (result.getOutcome() == TaskBatchItemDto.Outcome.CREATED) {
+                Task task = saved.next();
+                result.setTaskId(task.getId());
+                taskStatistics.added(TaskStatistics.Tally.of(task));
+            }
+        }
+        if (!tasks.isEmpty()) {
+            searchResultCache.invalidateTasks();
+        }
+        return new TaskBatchResultDto(results);
+    }
+
+    @Transactional
+    public TaskBatchResultDto updateTasksStatus(List<UUID> taskIds, TaskStatus newStatus, UUID userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return updateTasks(taskIds, user, task -> {
+            if (task.getStatus() == newStatus) {
+                return false;
+            }
+            task.setStatus(newStatus);
+            return true;
+        });
+    }
+
+    @Transactional
+    public TaskBatchResultDto reassignTasks(List<UUID> taskIds, UUID assigneeId, UUID userId) {
+        Map<UUID, User> users = usersById(Arrays.asList(userId, assigneeId));
+        User user = users.get(userId);
+        if (user == null) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        User assignee = assigneeId == null ? null : users.get(assigneeId);
+        if (assigneeId != null && assignee == null) {
+            throw new ResourceNotFoundException("Assignee not found");
+        }
+        return updateTasks(taskIds, user, task -> {
+            if (Objects.equals(task.getAssignee() != null ? task.getAssignee().getId() : null, assigneeId)) {
+                return false;
+            }
+            task.setAssignee(assignee);
+            return true;
+        });
+    }
+
+    @Transactional
+    public TaskBatchResultDto deleteTasks(List<UUID> taskIds, UUID userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        Map<UUID, Task> tasks = tasksById(taskIds);
+
+        List<TaskBatchItemDto> results = new ArrayList<>(tasks.size());
+        List<UUID> deletable = new ArrayList<>();
+        for (UUID taskId : new LinkedHashSet<>(taskIds)) {
+            Task task = tasks.get(taskId);
+            if (task == null) {
+                results.add(new TaskBatchItemDto(null, taskId, TaskBatchItemDto.Outcome.NOT_FOUND, "Task not found"));
+            } else if (!canDeleteTask(task, user)) {
+                results.add(new TaskBatchItemDto(null, taskId, TaskBatchItemDto.Outcome.FORBIDDEN,
+                        "User not authorized to delete this task"));
+            } else {
+                deletable.add(taskId);
+                taskStatistics.removed(TaskStatistics.Tally.of(task));
+                results.add(new TaskBatchItemDto(null, taskId, TaskBatchItemDto.Outcome.DELETED, null));
+            }
+        }
+
+        if (!deletable.isEmpty()) {
+            // One DELETE ... WHERE id IN (...); comments and attachments go with it (ON DELETE CASCADE)
+            taskRepository.deleteAllByIdInBatch(deletable);
+            searchResultCache.invalidateTasks();
+        }
+        return new TaskBatchResultDto(results);
+    }
+
+    // change returns false when the task already has the requested value
+    private TaskBatchResultDto updateTasks(List<UUID> taskIds, User user, Predicate<Task> change) {
+        Map<UUID, Task> tasks = tasksById(taskIds);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<TaskBatchItemDto> results = new ArrayList<>(tasks.size());
+        boolean updated = false;
+        for (UUID taskId : new LinkedHashSet<>(taskIds)) {
+            Task task = tasks.get(taskId);
+            if (task == null) {
+                results.add(new TaskBatchItemDto(null, taskId, TaskBatchItemDto.Outcome.NOT_FOUND, "Task not found"));
+                continue;
+            }
+            if (!isUserAuthorizedForTask(task, user)) {
+                results.add(new TaskBatchItemDto(null, taskId, TaskBatchItemDto.Outcome.FORBIDDEN,
+                        "User not authorized to update this task"));
+                continue;
+            }
+            TaskStatistics.Tally before = TaskStatistics.Tally.of(task);
+            if (!change.test(task)) {
+                results.add(new TaskBatchItemDto(null, taskId, TaskBatchItemDto.Outcome.UNCHANGED, null));
+                continue;
+            }
+            // Managed entities: the dirty check writes the updates as a batch on flush
+            task.setUpdatedAt(now);
+            taskStatistics.changed(before, TaskStatistics.Tally.of(task));
+            results.add(new TaskBatchItemDto(null, taskId, TaskBatchItemDto.Outcome.UPDATED, null));
+            updated = true;
+        }
+
+        if (updated) {
+            searchResultCache.invalidateTasks();
+        }
+        return new TaskBatchResultDto(results);
+    }
+
+    private Map<UUID, Task> tasksById(Collection<UUID> taskIds) {
+        return taskRepository.findAllById(new HashSet<>(taskIds)).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private Map<UUID, User> usersById(Collection<UUID> userIds) {
+        Set<UUID> ids = userIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        return userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
     }
 
     @Transactional(readOnly = true)
-    public List<TaskDto> searchTasks(String searchTerm, String status, String priority) {
+    public TaskPageDto searchTasks(String searchTerm, String status, String priority,
+                                   TaskCursor.Sort sort, String cursor, int size) {
         TaskStatus taskStatus = (status != null && !status.equals("ALL")) ? TaskStatus.valueOf(status) : null;
         Priority taskPriority = (priority != null && !priority.equals("ALL")) ? Priority.valueOf(priority) : null;
+        TaskCursor after = decode(cursor, sort);
+        int limit = pageSize(size);
+
+        return searchResultCache.tasks(searchTerm, taskStatus, taskPriority, sort, after, limit, term -> {
+            Specification<Task> filter = Specification.where(taskStatus == null ? null : hasStatus(taskStatus))
+                    .and(taskPriority == null ? null : hasPriority(taskPriority))
+                    // An empty term matches everything, so leave the text predicate out instead of scanning for '%%'
+                    .and(term.isEmpty() ? null : matches(containsPattern(term)));
+            return page(filter, sort, after, limit, false);
+        });
+    }
+
+    public TaskStatsDto getTaskStats() {
+        return taskStatistics.snapshot();
+    }
+
+    /**
+     * Tasks matching every criterion supplied in {@code filter}. Criteria that are left out add nothing to
+     * the query, so each combination gets its own plain SQL shape for the planner.
+     */
+    @Transactional(readOnly = true)
+    public TaskPageDto filterTasks(TaskFilterDto filter, TaskCursor.Sort sort, String cursor, int size) {
+        TaskCursor after = decode(cursor, sort);
+        Set<TaskStatus> statuses = isEmpty(filter.getStatus()) ? null : EnumSet.copyOf(filter.getStatus());
+        LocalDateTime dueTo = filter.getDueTo();
+        if (filter.isOverdue()) {
+            // Overdue means open work past its due date: narrow the status set and the range instead of
+            // adding predicates of their own
+            statuses = statuses == null ? EnumSet.allOf(TaskStatus.class) : statuses;
+            statuses.remove(TaskStatus.CLOSED);
+            LocalDateTime now = LocalDateTime.now();
+            dueTo = dueTo == null || dueTo.isAfter(now) ? now : dueTo;
+        }
+        if (statuses != null && statuses.isEmpty()) {
+            return new TaskPageDto(List.of(), null);
+        }
+        String text = filter.getText() == null ? "" : filter.getText().trim();
+
+        Specification<Task> spec = Specification
+                .where(filter.getAssigneeId() == null ? null : assignedTo(filter.getAssigneeId()))
+                .and(filter.getCreatorId() == null ? null : createdBy(filter.getCreatorId()))
+                .and(statuses == null ? null : statusIn(statuses))
+                .and(isEmpty(filter.getPriority()) ? null : priorityIn(EnumSet.copyOf(filter.getPriority())))
+                .and(filter.getDueFrom() == null ? null : dueOnOrAfter(filter.getDueFrom()))
+                .and(dueTo == null ? null : dueBefore(dueTo))
+                .and(text.isEmpty() ? null : matches(containsPattern(text)));
+        boolean scheduledOnly = filter.getDueFrom() != null || dueTo != null;
+        return page(spec, sort, after, pageSize(size), scheduledOnly);
+    }
 
-        return taskRepository.searchTasks(
-            searchTerm != null ? searchTerm : "", 
-            taskStatus, 
-            taskPriority
-        ).stream()
-        .map(this::convertToDto)
-        .collect(Collectors.toList());
+    private static boolean isEmpty(Set<?> values) {
+        return values == null || values.isEmpty();
+    }
+
+    // Fetches one row more than the page holds to tell whether there is a next page, without counting.
+    // scheduledOnly: the filter already requires a due date, so the unscheduled range is not read.
+    private TaskPageDto page(Specification<Task> filter, TaskCursor.Sort sort, TaskCursor after, int limit,
+                             boolean scheduledOnly) {
+        Specification<Task> base = Specification.where(filter);
+        List<TaskDto> tasks = new ArrayList<>(limit + 1);
+        if (sort == TaskCursor.Sort.CREATED_AT) {
+            tasks.addAll(fetch(after == null ? base : base.and(createdBefore(after.key(), after.id())),
+                    NEWEST_FIRST, limit + 1));
+        } else {
+            // Two index ranges: scheduled tasks by due date, then unscheduled ones by id. A cursor without
+            // a due date is already in the second.
+            boolean pastScheduled = after != null && after.key() == null;
+            if (pastScheduled && scheduledOnly) {
+                return new TaskPageDto(List.of(), null);
+            }
+            if (!pastScheduled) {
+                tasks.addAll(fetch(base.and(after == null ? scheduled() : dueAfter(after.key(), after.id())),
+                        SOONEST_DUE_FIRST, limit + 1));
+            }
+            if (tasks.size() <= limit && !scheduledOnly) {
+                tasks.addAll(fetch(base.and(unscheduled()).and(pastScheduled ? idAfter(after.id()) : null),
+                        BY_ID, limit + 1 - tasks.size()));
+            }
+        }
+
+        List<TaskDto> items = tasks.size() > limit ? tasks.subList(0, limit) : tasks;
+        String next = tasks.size() > limit ? TaskCursor.after(sort, items.get(items.size() - 1)).encode() : null;
+        return new TaskPageDto(items, next);
+    }
+
+    private List<TaskDto> fetch(Specification<Task> spec, Sort order, int limit) {
+        return taskRepository.findDtos(spec, order, limit);
+    }
+
+    private static TaskCursor decode(String cursor, TaskCursor.Sort sort) {
+        return cursor == null || cursor.isEmpty() ? null : TaskCursor.decode(cursor, sort);
+    }
+
+    private static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    private static String containsPattern(String term) {
+        StringBuilder pattern = new StringBuilder(term.length() + 2).append('%');
+        for (char c : term.toCharArray()) {
+            if (c == '!' || c == '%' || c == '_') {
+                pattern.append('!');
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
     }
 
     @Transactional
@@ -173,6 +470,11 @@ public class TaskService {
     private boolean isUserAuthorizedForTask(Task task, UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return isUserAuthorizedForTask(task, user);
+    }
+
+    private boolean isUserAuthorizedForTask(Task task, User user) {
+        UUID userId = user.getId();
 
         // Admin users have full access
         if (user.getRole() == UserRole.ADMIN) {
@@ -180,21 +482,28 @@ public class TaskService {
         }
 
         // Task creator and assignee have access
-        return task.getCreator().getId().equals(userId) ||
-                (task.getAssignee() != null && task.getAssignee().getId().equals(userId));
+        return isUser(task.getCreator(), userId) || isUser(task.getAssignee(), userId);
     }
 
     private boolean canDeleteTask(Task task, UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return canDeleteTask(task, user);
+    }
+
+    private boolean canDeleteTask(Task task, User user) {
+        return user.getRole() == UserRole.ADMIN || isUser(task.getCreator(), user.getId());
+    }
 
-        return user.getRole() == UserRole.ADMIN || task.getCreator().getId().equals(userId);
+    // getId() on an uninitialized proxy returns the foreign key without loading the user
+    private static boolean isUser(User user, UUID userId) {
+        return user != null && user.getId().equals(userId);
     }
 
     private TaskDto convertToDto(Task task) {
         TaskDto dto = new TaskDto();
         dto.setId(task.getId());
-        dto.setCreatorId(task.getCreator().getId());
+        dto.setCreatorId(task.getCreator() != null ? task.getCreator().getId() : null);
         dto.setAssigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null);
         dto.setTitle(task.getTitle());
         dto.setDescription(task.getDescription());
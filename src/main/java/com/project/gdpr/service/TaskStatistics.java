@@ -0,0 +1,150 @@
+package com.project.gdpr.service;
+
+import com.project.gdpr.config.AfterCommit;
+import com.project.gdpr.dto.TaskStatsDto;
+import com.project.gdpr.entity.Priority;
+import com.project.gdpr.entity.Task;
+import com.project.gdpr.entity.TaskStatus;
+import com.project.gdpr.repository.DueDateCount;
+import com.project.gdpr.repository.TaskCount;
+import com.project.gdpr.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * In-memory task counts for the dashboard, built from two GROUP BY queries and then adjusted by the
+ * task writes made through this node once they commit. Open due dates are kept sorted, so the overdue
+ * count follows the clock without any write. A periodic reconcile replaces everything with fresh
+ * counts, which picks up writes made on other nodes and bounds any drift to one interval.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskStatistics {
+    private final TaskRepository taskRepository;
+
+    private Counts counts;
+
+    /**
+     * The facts about one task that the counts depend on. Taken before and after a write to adjust by
+     * the difference.
+     */
+    public record Tally(TaskStatus status, Priority priority, UUID assigneeId, LocalDateTime dueDate) {
+        public static Tally of(Task task) {
+            return new Tally(task.getStatus(), task.getPriority(),
+                    task.getAssignee() != null ? task.getAssignee().getId() : null, task.getDueDate());
+        }
+
+        // Only open tasks can become overdue
+        LocalDateTime openDueDate() {
+            return status != TaskStatus.CLOSED ? dueDate : null;
+        }
+    }
+
+    public TaskStatsDto snapshot() {
+        synchronized (this) {
+            if (counts != null) {
+                return counts.toDto(LocalDateTime.now());
+            }
+        }
+        reconcile();
+        synchronized (this) {
+            return counts.toDto(LocalDateTime.now());
+        }
+    }
+
+    public void added(Tally tally) {
+        AfterCommit.run(() -> apply(tally, 1));
+    }
+
+    public void removed(Tally tally) {
+        AfterCommit.run(() -> apply(tally, -1));
+    }
+
+    public void changed(Tally before, Tally after) {
+        if (!before.equals(after)) {
+            AfterCommit.run(() -> {
+                apply(before, -1);
+                apply(after, 1);
+            });
+        }
+    }
+
+    // A write that commits while the queries run may be counted by both, until the next reconcile
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${application.tasks.stats.reconcile-interval:300000}",
+            initialDelayString = "${application.tasks.stats.reconcile-interval:300000}")
+    public void reconcile() {
+        Counts fresh = new Counts();
+        for (TaskCount row : taskRepository.countByStatusPriorityAndAssignee()) {
+            fresh.add(row.status(), row.priority(), row.assigneeId(), row.tasks());
+        }
+        for (DueDateCount row : taskRepository.countOpenByDueDate()) {
+            fresh.openDueDates.merge(row.dueDate(), row.tasks(), Long::sum);
+        }
+        synchronized (this) {
+            counts = fresh;
+        }
+    }
+
+    private synchronized void apply(Tally tally, long delta) {
+        // Not loaded yet: the first read counts the committed rows anyway
+        if (counts == null) {
+            return;
+        }
+        counts.add(tally.status(), tally.priority(), tally.assigneeId(), delta);
+        LocalDateTime due = tally.openDueDate();
+        if (due != null) {
+            counts.openDueDates.merge(due, delta, (a, b) -> a + b == 0 ? null : a + b);
+        }
+    }
+
+    private static final class Counts {
+        private final Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        private final Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        private final Map<UUID, Long> byAssignee = new HashMap<>();
+        private final NavigableMap<LocalDateTime, Long> openDueDates = new TreeMap<>();
+        private long total;
+        private long unassigned;
+
+        Counts() {
+            for (TaskStatus status : TaskStatus.values()) {
+                byStatus.put(status, 0L);
+            }
+            for (Priority priority : Priority.values()) {
+                byPriority.put(priority, 0L);
+            }
+        }
+
+        void add(TaskStatus status, Priority priority, UUID assigneeId, long delta) {
+            total += delta;
+            byStatus.merge(status, delta, Long::sum);
+            byPriority.merge(priority, delta, Long::sum);
+            if (assigneeId == null) {
+                unassigned += delta;
+            } else {
+                byAssignee.merge(assigneeId, delta, (a, b) -> a + b == 0 ? null : a + b);
+            }
+        }
+
+        TaskStatsDto toDto(LocalDateTime now) {
+            long overdue = 0;
+            for (long tasks : openDueDates.headMap(now, false).values()) {
+                overdue += tasks;
+            }
+            return new TaskStatsDto(total, new EnumMap<>(byStatus), new EnumMap<>(byPriority),
+                    new HashMap<>(byAssignee), unassigned, overdue);
+        }
+    }
+}
@@ -12,6 +12,8 @@ import com.project.gdpr.exception.UnauthorizedAccessException;
 import com.project.gdpr.exception.UserAlreadyExistsException;
 import com.project.gdpr.exception.FileStorageException;
 import com.project.gdpr.repository.UserRepository;
+import com.project.gdpr.security.PrincipalCache;
+import com.project.gdpr.security.TokenVersionRegistry;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -37,6 +39,9 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final PrincipalCache principalCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final RefreshTokenService refreshTokenService;
 
     @Value("${app.avatar.upload.dir}")
     private String uploadDir;
@@ -74,11 +79,23 @@ public class UserService {
             throw new UnauthorizedAccessException("Invalid credentials");
         }
 
+        return buildJwtResponse(user, refreshTokenService.issue(user));
+    }
+
+    // Renews the access token without re-checking the password, so no BCrypt work is done
+    @Transactional(noRollbackFor = UnauthorizedAccessException.class)
+    public JwtResponseDto refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        return buildJwtResponse(rotation.user(), rotation.refreshToken());
+    }
+
+    private JwtResponseDto buildJwtResponse(User user, String refreshToken) {
         String jwtToken = jwtService.generateToken(user);
         UserDto userDto = convertToDto(user);
 
         JwtResponseDto jwtResponseDto = new JwtResponseDto();
         jwtResponseDto.setToken(jwtToken);
+        jwtResponseDto.setRefreshToken(refreshToken);
         jwtResponseDto.setUser(userDto);
 
         return jwtResponseDto;
@@ -113,6 +130,12 @@ public class UserService {
             throw new UserAlreadyExistsException("Username already taken");
         }
 
+        principalCache.invalidate(user.getUsername());
+        if (!user.getUsername().equals(userDto.getUsername())) {
+            // Outstanding tokens carry the old username as subject
+            revokeTokens(user);
+        }
+
         user.setEmail(userDto.getEmail());
         user.setUsername(userDto.getUsername());
         user.setJobTitle(userDto.getJobTitle());
@@ -128,6 +151,8 @@ public class UserService {
             throw new ResourceNotFoundException("User not found");
         }
         userRepository.deleteById(id);
+        principalCache.invalidate(id);
+        tokenVersionRegistry.revoke(id);
     }
 
     @Transactional(readOnly = true)
@@ -143,9 +168,16 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         user.setRole(newRole);
         user.setUpdatedAt(LocalDateTime.now());
+        principalCache.invalidate(user.getUsername());
+        revokeTokens(user);
         return convertToDto(userRepository.save(user));
     }
 
+    private void revokeTokens(User user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        tokenVersionRegistry.update(user.getId(), user.getTokenVersion());
+    }
+
     private UserDto convertToDto(User user) {
         UserDto dto = new UserDto();
         dto.setId(user.getId());
@@ -0,0 +1,8 @@
+-- Cross-references between articles ("pursuant to Article 9"), derived from article content by the application
+CREATE TABLE article_references (
+    source_id UUID NOT NULL REFERENCES GDPRArticles(id) ON DELETE CASCADE,
+    target_id UUID NOT NULL REFERENCES GDPRArticles(id) ON DELETE CASCADE,
+    PRIMARY KEY (source_id, target_id)
+);
+
+CREATE INDEX idx_article_references_target ON article_references(target_id);
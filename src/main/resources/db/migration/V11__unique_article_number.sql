@@ -0,0 +1,33 @@
+-- The article endpoints used to accept duplicate numbers. Keep the most recently updated row of each
+-- number and move the saves and cross-references of the others onto it before adding the constraint.
+CREATE TEMPORARY TABLE duplicate_articles AS
+SELECT id AS duplicate_id, keep_id
+FROM (
+    SELECT id, FIRST_VALUE(id) OVER (
+        PARTITION BY article_number ORDER BY updated_at DESC NULLS LAST, created_at DESC NULLS LAST, id
+    ) AS keep_id
+    FROM GDPRArticles
+) ranked
+WHERE id <> keep_id;
+
+-- Pairs saved twice this way are collapsed by V12
+UPDATE saved_articles s SET article_id = d.keep_id
+FROM duplicate_articles d
+WHERE s.article_id = d.duplicate_id;
+
+INSERT INTO article_references (source_id, target_id)
+SELECT COALESCE(s.keep_id, r.source_id), COALESCE(t.keep_id, r.target_id)
+FROM article_references r
+LEFT JOIN duplicate_articles s ON s.duplicate_id = r.source_id
+LEFT JOIN duplicate_articles t ON t.duplicate_id = r.target_id
+WHERE (s.keep_id IS NOT NULL OR t.keep_id IS NOT NULL)
+  AND COALESCE(s.keep_id, r.source_id) <> COALESCE(t.keep_id, r.target_id)
+ON CONFLICT DO NOTHING;
+
+-- Their remaining reference rows go with them (ON DELETE CASCADE)
+DELETE FROM GDPRArticles WHERE id IN (SELECT duplicate_id FROM duplicate_articles);
+
+DROP TABLE duplicate_articles;
+
+-- Article numbers identify articles for bulk imports (INSERT ... ON CONFLICT (article_number))
+ALTER TABLE GDPRArticles ADD CONSTRAINT uq_gdprarticles_article_number UNIQUE (article_number);
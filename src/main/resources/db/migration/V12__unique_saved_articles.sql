@@ -0,0 +1,14 @@
+-- Keep the earliest save of each (user, article) pair, then make the pair unique
+DELETE FROM saved_articles
+WHERE id IN (
+    SELECT id FROM (
+        SELECT id, ROW_NUMBER() OVER (PARTITION BY user_id, article_id ORDER BY saved_at NULLS LAST, id) AS n
+        FROM saved_articles
+    ) ranked
+    WHERE n > 1
+);
+
+ALTER TABLE saved_articles ADD CONSTRAINT uq_saved_articles_user_article UNIQUE (user_id, article_id);
+
+-- Lookups by user are served by the leading column of the unique index
+DROP INDEX IF EXISTS idx_saved_articles_user;
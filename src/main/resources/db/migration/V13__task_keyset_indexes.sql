@@ -0,0 +1,13 @@
+-- Keyset pagination: listings order by (created_at, id) or (due_date, id) and resume after the last row
+UPDATE tasks SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+ALTER TABLE tasks ALTER COLUMN created_at SET NOT NULL;
+
+CREATE INDEX idx_tasks_created ON tasks (created_at, id);
+CREATE INDEX idx_tasks_due ON tasks (due_date, id);
+CREATE INDEX idx_tasks_assignee_created ON tasks (assignee_id, created_at, id);
+CREATE INDEX idx_tasks_assignee_due ON tasks (assignee_id, due_date, id);
+CREATE INDEX idx_tasks_creator_created ON tasks (creator_id, created_at, id);
+
+-- Covered by the leading columns of the indexes above
+DROP INDEX IF EXISTS idx_task_assignee;
+DROP INDEX IF EXISTS idx_task_creator;
@@ -0,0 +1,3 @@
+-- Task filter: status and priority sets with a due-date range or order, and an assignee's tasks by status
+CREATE INDEX idx_tasks_status_priority_due ON tasks (status, priority, due_date, id);
+CREATE INDEX idx_tasks_assignee_status ON tasks (assignee_id, status);
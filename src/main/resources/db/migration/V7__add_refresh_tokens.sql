@@ -0,0 +1,14 @@
+-- Issued refresh tokens, one row per rotation; used for reuse detection
+CREATE TABLE refresh_tokens (
+                                id UUID PRIMARY KEY,
+                                user_id UUID NOT NULL REFERENCES Users(id) ON DELETE CASCADE,
+                                family_id UUID NOT NULL,
+                                expires_at TIMESTAMP NOT NULL,
+                                used_at TIMESTAMP,
+                                revoked BOOLEAN NOT NULL DEFAULT FALSE,
+                                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_refresh_tokens_user ON refresh_tokens (user_id);
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens (family_id);
+CREATE INDEX idx_refresh_tokens_expires ON refresh_tokens (expires_at);
@@ -0,0 +1,15 @@
+-- Weighted full-text vector for article search: title and keywords rank as A, content as B.
+-- array_to_string is only STABLE, so it is wrapped in an IMMUTABLE helper for the generated column;
+-- joining text[] elements with a space does not depend on any setting.
+CREATE OR REPLACE FUNCTION gdpr_keywords_text(keywords TEXT[]) RETURNS TEXT
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE
+    AS $$ SELECT array_to_string(keywords, ' ') $$;
+
+ALTER TABLE gdprarticles
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(gdpr_keywords_text(keywords), '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(content, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_gdprarticles_search_vector ON gdprarticles USING GIN (search_vector);
@@ -0,0 +1,123 @@
+package com.project.gdpr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.gdpr.dto.ArticleImportResultDto;
+import com.project.gdpr.exception.InvalidImportException;
+import com.project.gdpr.service.ArticleImportService;
+import com.project.gdpr.service.ArticleReferenceStore;
+import com.project.gdpr.service.GdprArticleCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs the bulk import against a real PostgreSQL migrated by Flyway, with the seeded GDPR articles
+ * and batched-insert rewriting on as in production.
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ArticleImportServiceTest {
+
+    @RegisterExtension
+    static final EmbeddedPostgresExtension POSTGRES = EmbeddedPostgresExtension.migrated();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private ArticleImportService importService;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        POSTGRES.register(registry, "reWriteBatchedInserts=true");
+    }
+
+    @BeforeEach
+    void setUp() {
+        importService = new ArticleImportService(jdbcTemplate, objectMapper,
+                mock(GdprArticleCatalog.class), mock(ArticleReferenceStore.class));
+    }
+
+    @Test
+    void importArticles_UpsertsNdjsonByArticleNumber() {
+        Timestamp unchangedBefore = updatedAt("Article 2");
+        String article2 = jdbcTemplate.queryForObject(
+                "SELECT json_build_object('articleNumber', article_number, 'title', title, 'content', content, "
+                        + "'keywords', keywords)::text FROM GDPRArticles WHERE article_number = 'Article 2'", String.class);
+        String ndjson = """
+                {"articleNumber":"Article 1","title":"Subject-matter","content":"Revised.","keywords":["scope"]}
+                {"articleNumber":"BDSG 1","title":"Scope","content":"First draft."}
+                {"articleNumber":"BDSG 1","title":"Scope of the Act","content":"Applies to public bodies.","keywords":["scope"]}
+                """ + article2 + "\n";
+
+        ArticleImportResultDto result = importService.importArticles(stream(ndjson));
+
+        assertThat(result.getReceived()).isEqualTo(4);
+        assertThat(result.getBatches()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT title FROM GDPRArticles WHERE article_number = 'Article 1'",
+                String.class)).isEqualTo("Subject-matter");
+        assertThat(jdbcTemplate.queryForObject("SELECT content FROM GDPRArticles WHERE article_number = 'BDSG 1'",
+                String.class)).isEqualTo("Applies to public bodies.");
+        assertThat(jdbcTemplate.queryForObject("SELECT keywords[1] FROM GDPRArticles WHERE article_number = 'BDSG 1'",
+                String.class)).isEqualTo("scope");
+        assertThat(updatedAt("Article 2")).isEqualTo(unchangedBefore);
+    }
+
+    @Test
+    void importArticles_StreamsJsonArrayInBatches() {
+        int count = 2 * 500 + 1;
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 1; i <= count; i++) {
+            json.append(i > 1 ? "," : "")
+                    .append("{\"articleNumber\":\"LAW ").append(i).append("\",\"title\":\"Section ").append(i)
+                    .append("\",\"content\":\"Text of section ").append(i).append(".\"}");
+        }
+        json.append("]");
+
+        ArticleImportResultDto result = importService.importArticles(stream(json.toString()));
+
+        assertThat(result.getReceived()).isEqualTo(count);
+        assertThat(result.getBatches()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM GDPRArticles WHERE article_number LIKE 'LAW %'",
+                Integer.class)).isEqualTo(count);
+    }
+
+    @Test
+    void importArticles_RejectsInvalidRecords() {
+        assertThatThrownBy(() -> importService.importArticles(stream("[{\"articleNumber\":\"LAW 1\"}]")))
+                .isInstanceOf(InvalidImportException.class)
+                .hasMessageContaining("no title");
+        assertThatThrownBy(() -> importService.importArticles(stream("{\"articleNumber\":\"LAW 1\",\n\"title\":")))
+                .isInstanceOf(InvalidImportException.class)
+                .hasMessageContaining("line 2");
+        assertThatThrownBy(() -> importService.importArticles(stream("[\"LAW 1\"]")))
+                .isInstanceOf(InvalidImportException.class)
+                .hasMessageContaining("not a JSON object");
+    }
+
+    private Timestamp updatedAt(String articleNumber) {
+        return jdbcTemplate.queryForObject("SELECT updated_at FROM GDPRArticles WHERE article_number = ?",
+                Timestamp.class, articleNumber);
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,69 @@
+package com.project.gdpr;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Seeds the duplicate article numbers the article endpoints used to accept, then runs V11 to check that
+ * it keeps the newest row of each number and moves saves and cross-references onto it.
+ */
+class ArticleNumberMigrationTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID NEWER = UUID.randomUUID();
+    private static UUID original;
+    private static int seededArticles;
+
+    @RegisterExtension
+    static final EmbeddedPostgresExtension POSTGRES =
+            EmbeddedPostgresExtension.seededAt("10", ArticleNumberMigrationTest::seedDuplicates);
+
+    private final JdbcTemplate jdbc = new JdbcTemplate(POSTGRES.dataSource());
+
+    @Test
+    void migration_KeepsNewestArticleAndRepointsSavesAndReferences() {
+        assertThat(jdbc.queryForList("SELECT id FROM GDPRArticles WHERE article_number = 'Article 5'", UUID.class))
+                .containsExactly(NEWER);
+        assertThat(jdbc.queryForList("SELECT article_id FROM saved_articles WHERE user_id = ?", UUID.class, USER_ID))
+                .containsExactly(NEWER);
+        List<Map<String, Object>> references = jdbc.queryForList(
+                "SELECT source_id, target_id FROM article_references WHERE ? IN (source_id, target_id)", NEWER);
+        assertThat(references).containsExactlyInAnyOrder(
+                Map.of("source_id", NEWER, "target_id", articleId(jdbc, "Article 6")),
+                Map.of("source_id", articleId(jdbc, "Article 7"), "target_id", NEWER));
+    }
+
+    @Test
+    void migration_LeavesUniqueNumbersAlone() {
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM GDPRArticles WHERE id = ?", Integer.class, original))
+                .isZero();
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM GDPRArticles", Integer.class))
+                .isEqualTo(seededArticles - 1);
+    }
+
+    private static void seedDuplicates(JdbcTemplate jdbc) {
+        original = articleId(jdbc, "Article 5");
+        jdbc.update("INSERT INTO GDPRArticles (id, article_number, title, updated_at) "
+                + "VALUES (?, 'Article 5', 'Edited copy', CURRENT_TIMESTAMP + INTERVAL '1 day')", NEWER);
+        seededArticles = jdbc.queryForObject("SELECT COUNT(*) FROM GDPRArticles", Integer.class);
+        jdbc.update("INSERT INTO Users (id, email, username, password_hash, role) "
+                + "VALUES (?, 'reader@example.com', 'reader', 'x', 'VIEWER')", USER_ID);
+        jdbc.update("INSERT INTO saved_articles (user_id, article_id) VALUES (?, ?), (?, ?)",
+                USER_ID, original, USER_ID, NEWER);
+        UUID article6 = articleId(jdbc, "Article 6");
+        UUID article7 = articleId(jdbc, "Article 7");
+        jdbc.update("INSERT INTO article_references (source_id, target_id) VALUES (?, ?), (?, ?), (?, ?), (?, ?)",
+                original, article6, NEWER, article6, article7, original, original, NEWER);
+    }
+
+    private static UUID articleId(JdbcTemplate jdbc, String articleNumber) {
+        return jdbc.queryForObject("SELECT id FROM GDPRArticles WHERE article_number = ?", UUID.class, articleNumber);
+    }
+}
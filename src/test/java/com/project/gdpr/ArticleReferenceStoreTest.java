@@ -0,0 +1,90 @@
+package com.project.gdpr;
+
+import com.project.gdpr.service.ArticleReferenceStore;
+import com.project.gdpr.service.CatalogSnapshot;
+import com.project.gdpr.service.GdprArticleCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleReferenceStoreTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private GdprArticleCatalog gdprArticleCatalog;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ArticleReferenceStore store;
+
+    private final CatalogSnapshot.Citation citation = new CatalogSnapshot.Citation(UUID.randomUUID(), UUID.randomUUID());
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenReturn(List.of());
+        store = new ArticleReferenceStore(jdbcTemplate, gdprArticleCatalog, transactionManager);
+    }
+
+    @Test
+    void sync_WritesOnlyChangedLinks() {
+        store.sync(snapshot(Set.of(citation)));
+        store.sync(snapshot(Set.of(citation)));
+
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class));
+        verify(jdbcTemplate, times(1)).batchUpdate(contains("INSERT"), anyList());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void sync_FailedCommitIsLoggedAndNextSyncRereadsTable() {
+        doThrow(new DataAccessResourceFailureException("connection lost"))
+                .doNothing()
+                .when(transactionManager).commit(any());
+
+        assertThatCode(() -> store.sync(snapshot(Set.of(citation)))).doesNotThrowAnyException();
+
+        store.sync(snapshot(Set.of(citation)));
+
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowMapper.class));
+        verify(jdbcTemplate, times(2)).batchUpdate(contains("INSERT"), anyList());
+    }
+
+    @Test
+    void syncOnStartup_RunsInItsOwnTransaction() {
+        CatalogSnapshot snapshot = snapshot(Set.of(citation));
+        when(gdprArticleCatalog.snapshot()).thenReturn(snapshot);
+
+        store.syncOnStartup();
+
+        verify(transactionManager).getTransaction(any());
+        verify(transactionManager).commit(any());
+    }
+
+    private static CatalogSnapshot snapshot(Set<CatalogSnapshot.Citation> citations) {
+        CatalogSnapshot snapshot = mock(CatalogSnapshot.class);
+        when(snapshot.getCitations()).thenReturn(citations);
+        return snapshot;
+    }
+}
@@ -0,0 +1,119 @@
+package com.project.gdpr;
+
+import com.project.gdpr.dto.GdprArticleDto;
+import com.project.gdpr.search.ArticleSearchIndex;
+import com.project.gdpr.search.TextAnalyzer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleSearchIndexTest {
+
+    private static GdprArticleDto article(String number, String title, String content, String... keywords) {
+        GdprArticleDto dto = new GdprArticleDto();
+        dto.setId(UUID.randomUUID());
+        dto.setArticleNumber(number);
+        dto.setTitle(title);
+        dto.setContent(content);
+        dto.setKeywords(keywords);
+        return dto;
+    }
+
+    private static List<Integer> ordinals(List<ArticleSearchIndex.Hit> hits) {
+        return hits.stream().map(ArticleSearchIndex.Hit::ordinal).toList();
+    }
+
+    private final GdprArticleDto[] corpus = {
+            article("Art17", "Right to erasure", "The data subject may obtain the erasure of personal data.", "erasure", "right to be forgotten"),
+            article("Art5", "Principles relating to processing", "Personal data shall be processed lawfully; erasure without delay.", "principles"),
+            article("Art32", "Security of processing", "Controllers implement pseudonymisation and encryption of personal data.", "security", "encryption")
+    };
+
+    @Test
+    void analyze_FoldsCaseAccentsAndPlurals() {
+        assertThat(TextAnalyzer.analyze("The Controllers' Données, policies")).containsExactly("controller", "donnee", "policy");
+    }
+
+    @Test
+    void analyze_StripsEsOnlyAfterSibilants() {
+        assertThat(TextAnalyzer.analyze("processes process boxes searches wishes cases"))
+                .containsExactly("process", "process", "box", "search", "wish", "case");
+    }
+
+    @Test
+    void search_MatchesSingularAgainstSibilantPlural() {
+        ArticleSearchIndex index = ArticleSearchIndex.build(new GdprArticleDto[]{
+                article("Art30", "Records of processing activities", "Controllers document their processes.")});
+
+        assertThat(ordinals(index.search("process", 10))).containsExactly(0);
+        assertThat(ordinals(index.search("processes", 10))).containsExactly(0);
+    }
+
+    @Test
+    void search_RanksTitleMatchesFirst() {
+        ArticleSearchIndex index = ArticleSearchIndex.build(corpus);
+
+        assertThat(ordinals(index.search("erasure", 10))).containsExactly(0, 1);
+    }
+
+    @Test
+    void search_RequiresAllTermsWhenPossible() {
+        ArticleSearchIndex index = ArticleSearchIndex.build(corpus);
+
+        assertThat(ordinals(index.search("personal encryption", 10))).containsExactly(2);
+        assertThat(ordinals(index.search("encryption forgotten", 10))).containsExactlyInAnyOrder(0, 2);
+    }
+
+    @Test
+    void search_MatchesPhrasesAndPrefixes() {
+        ArticleSearchIndex index = ArticleSearchIndex.build(corpus);
+
+        assertThat(ordinals(index.search("\"right to be forgotten\"", 10))).containsExactly(0);
+        assertThat(ordinals(index.search("\"data personal\"", 10))).isEmpty();
+        assertThat(ordinals(index.search("pseudonym", 10))).containsExactly(2);
+    }
+
+    @Test
+    void search_ToleratesTyposInUnknownTerms() {
+        ArticleSearchIndex index = ArticleSearchIndex.build(corpus);
+
+        assertThat(ordinals(index.search("controler", 10))).containsExactly(2);
+        assertThat(ordinals(index.search("pseudonymization personal", 10))).containsExactly(2);
+        assertThat(ordinals(index.search("forgoten", 10))).containsExactly(0);
+        assertThat(ordinals(index.search("dta", 10))).isEmpty();
+    }
+
+    @Test
+    void search_RanksTypoMatchesBelowExactMatches() {
+        ArticleSearchIndex index = ArticleSearchIndex.build(corpus);
+
+        double exact = index.search("encryption", 10).get(0).score();
+        double typo = index.search("encyption", 10).get(0).score();
+        assertThat(typo).isPositive().isLessThan(exact);
+    }
+
+    @Test
+    void search_HonoursLimit() {
+        ArticleSearchIndex index = ArticleSearchIndex.build(corpus);
+
+        assertThat(index.search("personal data", 2)).hasSize(2);
+    }
+
+    @Test
+    void incrementalUpdates_MatchFullRebuild() {
+        GdprArticleDto replacement = article("Art5", "Lawfulness of processing", "Consent of the data subject.", "consent");
+        ArticleSearchIndex incremental = ArticleSearchIndex.build(corpus)
+                .with(1, replacement)
+                .without(2)
+                .with(3, corpus[2]);
+        ArticleSearchIndex rebuilt = ArticleSearchIndex.build(new GdprArticleDto[]{corpus[0], replacement, null, corpus[2]});
+
+        for (String query : List.of("erasure", "consent", "encryption personal", "principles", "data")) {
+            assertThat(incremental.search(query, 10)).as(query).isEqualTo(rebuilt.search(query, 10));
+        }
+        assertThat(incremental.size()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,56 @@
+package com.project.gdpr;
+
+import com.project.gdpr.dto.ArticleSuggestionDto;
+import com.project.gdpr.dto.ArticleSuggestionDto.Kind;
+import com.project.gdpr.dto.GdprArticleDto;
+import com.project.gdpr.search.ArticleSuggester;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleSuggesterTest {
+
+    private static GdprArticleDto article(String number, String title, String... keywords) {
+        GdprArticleDto dto = new GdprArticleDto();
+        dto.setId(UUID.randomUUID());
+        dto.setArticleNumber(number);
+        dto.setTitle(title);
+        dto.setKeywords(keywords);
+        return dto;
+    }
+
+    private final GdprArticleDto art1 = article("Article 1", "Subject-matter and objectives", "scope");
+    private final GdprArticleDto art17 = article("Article 17", "Right to erasure (\"right to be forgotten\")", "erasure", "deletion");
+    private final GdprArticleDto art19 = article("Article 19", "Notification obligation regarding rectification or erasure", "erasure");
+    private final ArticleSuggester suggester = ArticleSuggester.build(List.of(art1, art17, art19));
+
+    @Test
+    void suggest_MatchesArticleNumberAliases() {
+        assertThat(suggester.suggest("art 17", 5)).extracting(ArticleSuggestionDto::getArticleId).containsExactly(art17.getId());
+        assertThat(suggester.suggest("Art17", 5)).extracting(ArticleSuggestionDto::getText).containsExactly("Article 17");
+        assertThat(suggester.suggest("article 1", 2)).extracting(ArticleSuggestionDto::getText)
+                .containsExactly("Article 1", "Article 17");
+    }
+
+    @Test
+    void suggest_CompletesLaterWordsOfTitles() {
+        List<ArticleSuggestionDto> suggestions = suggester.suggest("eras", 10);
+
+        assertThat(suggestions).extracting(ArticleSuggestionDto::getKind)
+                .containsExactly(Kind.TITLE, Kind.TITLE, Kind.KEYWORD);
+        assertThat(suggestions.get(0).getArticleId()).isEqualTo(art17.getId());
+        // "erasure" belongs to two articles, so the keyword suggestion points at neither
+        assertThat(suggestions.get(2).getText()).isEqualTo("erasure");
+        assertThat(suggestions.get(2).getArticleId()).isNull();
+    }
+
+    @Test
+    void suggest_IgnoresBlankPrefixAndHonoursLimit() {
+        assertThat(suggester.suggest("  ", 5)).isEmpty();
+        assertThat(suggester.suggest("a", 1)).hasSize(1);
+        assertThat(suggester.suggest("zzz", 5)).isEmpty();
+    }
+}
@@ -0,0 +1,125 @@
+package com.project.gdpr;
+
+import com.project.gdpr.exception.ServiceBusyException;
+import com.project.gdpr.security.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    void encode_DelegatesOnHashingPool() {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(null), 1, 1,
+                Duration.ofSeconds(5), Duration.ofSeconds(1), meterRegistry);
+
+        assertThat(encoder.encode("secret")).isEqualTo("hashed:secret");
+        assertThat(encoder.matches("secret", "hashed:secret")).isTrue();
+        assertThat(meterRegistry.timer("password.hashing.duration").count()).isEqualTo(2);
+    }
+
+    @Test
+    void encode_QueueFull_FailsFastWithRetryAfter() throws Exception {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(release), 1, 1,
+                Duration.ofSeconds(5), Duration.ofSeconds(3), meterRegistry);
+
+        // One call occupies the only thread, the second fills the queue
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        awaitQueueDepth(1);
+
+        assertThatThrownBy(() -> encoder.encode("c"))
+            .isInstanceOf(ServiceBusyException.class)
+            .satisfies(ex -> assertThat(((ServiceBusyException) ex).getRetryAfterSeconds()).isEqualTo(3));
+        assertThat(meterRegistry.counter("password.hashing.rejections").count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:b");
+    }
+
+    @Test
+    void encode_Timeout_ThrowsServiceBusy() {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(release), 1, 1,
+                Duration.ofMillis(50), Duration.ofSeconds(1), meterRegistry);
+
+        assertThatThrownBy(() -> encoder.encode("slow"))
+            .isInstanceOf(ServiceBusyException.class);
+    }
+
+    @Test
+    void encode_TimeoutWhileQueued_RemovesWorkFromQueue() throws Exception {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(release), 1, 1,
+                Duration.ofMillis(200), Duration.ofSeconds(1), meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        awaitActive();
+
+        assertThatThrownBy(() -> encoder.encode("queued"))
+            .isInstanceOf(ServiceBusyException.class);
+        // The only thread is still blocked, so an empty queue means the timed-out hash was dropped
+        assertThat(meterRegistry.get("password.hashing.queue.depth").gauge().value()).isZero();
+
+        release.countDown();
+        running.handle((hash, ex) -> hash).get(5, TimeUnit.SECONDS);
+    }
+
+    private void awaitActive() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hashing.active").gauge().value() < 1) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("no hash ever started");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private void awaitQueueDepth(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hashing.queue.depth").gauge().value() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("queue never reached depth " + expected);
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private record BlockingEncoder(CountDownLatch release) implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
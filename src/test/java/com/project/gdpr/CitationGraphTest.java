@@ -0,0 +1,57 @@
+package com.project.gdpr;
+
+import com.project.gdpr.dto.GdprArticleDto;
+import com.project.gdpr.search.CitationGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CitationGraphTest {
+
+    private static GdprArticleDto article(int number, String content) {
+        GdprArticleDto dto = new GdprArticleDto();
+        dto.setId(UUID.randomUUID());
+        dto.setArticleNumber("Article " + number);
+        dto.setTitle("Article " + number);
+        dto.setContent(content);
+        return dto;
+    }
+
+    @Test
+    void build_ParsesListsRangesAndParagraphs() {
+        GdprArticleDto[] articles = {
+                article(1, "Processing under Article 6(1)(a) and points (b) to (d) of Article 9(2)."),
+                article(6, "Lawfulness."),
+                article(7, "Conditions for consent."),
+                article(8, "Child's consent."),
+                article(9, "Special categories; see Articles 6, 7 to 8 and 83."),
+                article(83, "Infringements of Articles 8, 9 and 83(4) are fined.")
+        };
+
+        CitationGraph graph = CitationGraph.build(articles);
+
+        assertThat(graph.references(0)).containsExactly(1, 4);
+        assertThat(graph.references(4)).containsExactly(1, 2, 3, 5);
+        assertThat(graph.references(5)).containsExactly(3, 4);
+        assertThat(graph.referencedBy(4)).containsExactly(0, 5);
+        assertThat(graph.referencedBy(1)).containsExactly(0, 4);
+    }
+
+    @Test
+    void build_IgnoresOtherActsAndUnknownArticles() {
+        GdprArticleDto[] articles = {
+                article(29, "Replaces Article 29 of Directive 95/46/EC."),
+                null,
+                article(94, "References to Article 29 of this Regulation and to Article 200 remain.")
+        };
+
+        CitationGraph graph = CitationGraph.build(articles);
+
+        assertThat(graph.references(0)).isEmpty();
+        assertThat(graph.references(1)).isEmpty();
+        assertThat(graph.references(2)).containsExactly(0);
+        assertThat(graph.referencedBy(0)).containsExactly(2);
+    }
+}
@@ -0,0 +1,98 @@
+package com.project.gdpr;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * One embedded PostgreSQL per test class, migrated by Flyway and closed after the class. Register it
+ * in a static field and point the datasource at it from the class's {@code @DynamicPropertySource}:
+ *
+ * <pre>
+ * &#64;RegisterExtension
+ * static final EmbeddedPostgresExtension POSTGRES = EmbeddedPostgresExtension.migrated();
+ *
+ * &#64;DynamicPropertySource
+ * static void datasource(DynamicPropertyRegistry registry) {
+ *     POSTGRES.register(registry);
+ * }
+ * </pre>
+ */
+public final class EmbeddedPostgresExtension implements AfterAllCallback {
+
+    private final EmbeddedPostgres postgres;
+
+    private EmbeddedPostgresExtension(EmbeddedPostgres postgres) {
+        this.postgres = postgres;
+    }
+
+    public static EmbeddedPostgresExtension migrated() {
+        return seeded(jdbc -> {
+        });
+    }
+
+    public static EmbeddedPostgresExtension seeded(Consumer<JdbcTemplate> seed) {
+        return seededAt(MigrationVersion.LATEST, seed);
+    }
+
+    /**
+     * Runs the seed once the schema is at {@code version} and then applies the remaining migrations,
+     * so the seed can hold rows a later migration has to clean up.
+     */
+    public static EmbeddedPostgresExtension seededAt(String version, Consumer<JdbcTemplate> seed) {
+        return seededAt(MigrationVersion.fromVersion(version), seed);
+    }
+
+    private static EmbeddedPostgresExtension seededAt(MigrationVersion version, Consumer<JdbcTemplate> seed) {
+        EmbeddedPostgres postgres;
+        try {
+            postgres = EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        DataSource dataSource = postgres.getPostgresDatabase();
+        migrate(dataSource, version);
+        seed.accept(new JdbcTemplate(dataSource));
+        migrate(dataSource, MigrationVersion.LATEST);
+        return new EmbeddedPostgresExtension(postgres);
+    }
+
+    public DataSource dataSource() {
+        return postgres.getPostgresDatabase();
+    }
+
+    public void register(DynamicPropertyRegistry registry) {
+        register(registry, null);
+    }
+
+    public void register(DynamicPropertyRegistry registry, String urlParameters) {
+        String url = postgres.getJdbcUrl("postgres", "postgres");
+        registry.add("spring.datasource.url",
+                () -> urlParameters == null ? url : url + (url.contains("?") ? "&" : "?") + urlParameters);
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) throws IOException {
+        postgres.close();
+    }
+
+    private static void migrate(DataSource dataSource, MigrationVersion target) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .target(target)
+                .load()
+                .migrate();
+    }
+}
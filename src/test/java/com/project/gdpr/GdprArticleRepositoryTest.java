@@ -0,0 +1,96 @@
+package com.project.gdpr;
+
+import com.project.gdpr.repository.ArticleSearchHit;
+import com.project.gdpr.repository.GDPRArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the native full-text search against a real PostgreSQL: the V8 search_vector weights,
+ * websearch_to_tsquery parsing, the ts_headline options and the float8 rank cast.
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class GdprArticleRepositoryTest {
+
+    @RegisterExtension
+    static final EmbeddedPostgresExtension POSTGRES = EmbeddedPostgresExtension.migrated();
+
+    @Autowired
+    private GDPRArticleRepository gdprArticleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID titled;
+    private UUID keyworded;
+    private UUID mentioned;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        POSTGRES.register(registry);
+    }
+
+    @BeforeEach
+    void setUp() {
+        titled = insert("Art900", "Blockchain ledgers",
+                "Personal data written to a blockchain ledger cannot simply be overwritten.");
+        keyworded = insert("Art901", "Distributed storage",
+                "Controllers keep records in replicated storage.", "blockchain");
+        mentioned = insert("Art902", "Erasure in append-only systems",
+                "Erasure from a blockchain needs off-chain storage; the blockchain keeps only a hash.");
+        insert("Art903", "Unrelated", "Nothing about the search term here.");
+    }
+
+    @Test
+    void searchFullText_RanksTitleAndKeywordMatchesAboveContent() {
+        List<ArticleSearchHit> hits = gdprArticleRepository.searchFullText("blockchain", 10);
+
+        assertThat(hits).extracting(ArticleSearchHit::getId).containsExactly(titled, keyworded, mentioned);
+        assertThat(hits).extracting(ArticleSearchHit::getRank).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+        assertThat(hits.get(2).getRank()).isPositive();
+    }
+
+    @Test
+    void searchFullText_HonoursLimit() {
+        assertThat(gdprArticleRepository.searchFullText("blockchain", 2))
+                .extracting(ArticleSearchHit::getId).containsExactly(titled, keyworded);
+    }
+
+    @Test
+    void searchFullText_MarksMatchesInContentSnippet() {
+        List<ArticleSearchHit> hits = gdprArticleRepository.searchFullText("ledgers", 10);
+
+        assertThat(hits).extracting(ArticleSearchHit::getId).containsExactly(titled);
+        assertThat(hits.get(0).getSnippet()).contains("<mark>ledger</mark>")
+                .doesNotContain("Blockchain ledgers");
+    }
+
+    @Test
+    void searchFullText_ParsesWebSearchSyntax() {
+        assertThat(gdprArticleRepository.searchFullText("blockchain -erasure", 10))
+                .extracting(ArticleSearchHit::getId).containsExactly(titled, keyworded);
+        assertThat(gdprArticleRepository.searchFullText("\"blockchain ledger\"", 10))
+                .extracting(ArticleSearchHit::getId).containsExactly(titled);
+        assertThat(gdprArticleRepository.searchFullText("blockchain or", 10)).hasSize(3);
+    }
+
+    private UUID insert(String number, String title, String content, String... keywords) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO gdprarticles (id, article_number, title, content, keywords) "
+                + "VALUES (?, ?, ?, ?, ?)", id, number, title, content, keywords);
+        return id;
+    }
+}
@@ -1,34 +1,57 @@
 package com.project.gdpr;
 
+import com.project.gdpr.dto.ArticleReferencesDto;
+import com.project.gdpr.dto.ArticleSearchResultDto;
+import com.project.gdpr.dto.ArticleSuggestionDto;
 import com.project.gdpr.dto.GdprArticleDto;
+import com.project.gdpr.dto.GdprArticleSummaryDto;
+import com.project.gdpr.dto.SavedArticleBatchResultDto;
 import com.project.gdpr.dto.SavedArticleDto;
+import com.project.gdpr.dto.SavedArticleSummaryDto;
 import com.project.gdpr.entity.GdprArticle;
 import com.project.gdpr.entity.SavedArticle;
 import com.project.gdpr.entity.User;
 import com.project.gdpr.entity.UserRole;
 import com.project.gdpr.exception.ResourceNotFoundException;
 import com.project.gdpr.exception.DuplicateResourceException;
+import com.project.gdpr.repository.ArticleSearchHit;
 import com.project.gdpr.repository.GDPRArticleRepository;
+import com.project.gdpr.repository.SavedArticleKey;
 import com.project.gdpr.repository.SavedArticleRepository;
 import com.project.gdpr.repository.UserRepository;
+import com.project.gdpr.service.ArticleReferenceStore;
+import com.project.gdpr.service.CacheValidators;
+import com.project.gdpr.service.CatalogEncoder;
+import com.project.gdpr.service.EncodedCatalog;
+import com.project.gdpr.service.GdprArticleCatalog;
 import com.project.gdpr.service.GdprArticleService;
+import com.project.gdpr.service.SavedArticleMembership;
+import com.project.gdpr.service.SearchResultCache;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,7 +66,11 @@ class GdprArticleServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
+    @Mock
+    private ArticleReferenceStore articleReferenceStore;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
     private GdprArticleService gdprArticleService;
 
     private UUID articleId;
@@ -54,8 +81,34 @@ class GdprArticleServiceTest {
     private SavedArticle savedArticle;
     private GdprArticleDto articleDto;
 
+    private static SavedArticleKey savedKey(UUID id, UUID articleId) {
+        return new SavedArticleKey() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public UUID getArticleId() {
+                return articleId;
+            }
+        };
+    }
+
+    private GdprArticleService newService() {
+        GdprArticleCatalog catalog = new GdprArticleCatalog(gdprArticleRepository);
+        return new GdprArticleService(gdprArticleRepository, savedArticleRepository,
+                userRepository, catalog, new CatalogEncoder(objectMapper),
+                new SearchResultCache(100, Duration.ofMinutes(10), Duration.ofSeconds(30), new SimpleMeterRegistry()),
+                articleReferenceStore,
+                new SavedArticleMembership(savedArticleRepository, catalog, 100, Duration.ofMinutes(10),
+                        new SimpleMeterRegistry()));
+    }
+
     @BeforeEach
     void setUp() {
+        gdprArticleService = newService();
+
         articleId = UUID.randomUUID();
         userId = UUID.randomUUID();
         savedArticleId = UUID.randomUUID();
@@ -98,9 +151,21 @@ class GdprArticleServiceTest {
         assertThat(results.get(0).getArticleNumber()).isEqualTo(article.getArticleNumber());
     }
 
+    @Test
+    void getAllArticles_LoadsCatalogOnce() {
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article));
+
+        gdprArticleService.getAllArticles();
+        gdprArticleService.getArticleById(articleId);
+        gdprArticleService.getArticlesByNumber("Art13");
+
+        verify(gdprArticleRepository, times(1)).findAll();
+        verify(gdprArticleRepository, never()).findById(any(UUID.class));
+    }
+
     @Test
     void getArticleById_Success() {
-        when(gdprArticleRepository.findById(articleId)).thenReturn(Optional.of(article));
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article));
 
         GdprArticleDto result = gdprArticleService.getArticleById(articleId);
 
@@ -111,7 +176,7 @@ class GdprArticleServiceTest {
 
     @Test
     void getArticleById_NotFound_ThrowsException() {
-        when(gdprArticleRepository.findById(articleId)).thenReturn(Optional.empty());
+        when(gdprArticleRepository.findAll()).thenReturn(List.of());
 
         assertThatThrownBy(() -> gdprArticleService.getArticleById(articleId))
             .isInstanceOf(ResourceNotFoundException.class)
@@ -121,7 +186,7 @@ class GdprArticleServiceTest {
     @Test
     void searchArticles_Success() {
         String searchTerm = "privacy";
-        when(gdprArticleRepository.searchArticles(searchTerm)).thenReturn(Arrays.asList(article));
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article));
 
         List<GdprArticleDto> results = gdprArticleService.searchArticles(searchTerm);
 
@@ -129,10 +194,158 @@ class GdprArticleServiceTest {
         assertThat(results.get(0).getKeywords()).contains(searchTerm);
     }
 
+    @Test
+    void searchArticles_SeesUpdatedArticle() {
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article));
+        assertThat(gdprArticleService.searchArticles("erasure")).isEmpty();
+
+        articleDto.setTitle("Right to Erasure");
+        when(gdprArticleRepository.findById(articleId)).thenReturn(Optional.of(article));
+        when(gdprArticleRepository.saveAndFlush(any(GdprArticle.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        gdprArticleService.updateArticle(articleId, articleDto);
+
+        assertThat(gdprArticleService.searchArticles("erasure"))
+            .extracting(GdprArticleDto::getId)
+            .containsExactly(articleId);
+    }
+
+    @Test
+    void searchArticlesFullText_FillsResultsFromCatalog() {
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article));
+        ArticleSearchHit hit = mock(ArticleSearchHit.class);
+        when(hit.getId()).thenReturn(articleId);
+        when(hit.getRank()).thenReturn(0.5);
+        when(hit.getSnippet()).thenReturn("right to be <mark>informed</mark>");
+        ArticleSearchHit unknown = mock(ArticleSearchHit.class);
+        when(unknown.getId()).thenReturn(UUID.randomUUID());
+        when(gdprArticleRepository.searchFullText("informed", 10)).thenReturn(List.of(hit, unknown));
+
+        List<ArticleSearchResultDto> results = gdprArticleService.searchArticlesFullText("informed", 10);
+
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getArticleNumber()).isEqualTo("Art13");
+        assertThat(results.get(0).getRank()).isEqualTo(0.5);
+        assertThat(results.get(0).getSnippet()).contains("<mark>informed</mark>");
+    }
+
+    @Test
+    void getArticleSummaries_OmitContent() {
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article));
+
+        List<GdprArticleSummaryDto> summaries = gdprArticleService.getArticleSummaries();
+
+        assertThat(summaries).hasSize(1);
+        assertThat(summaries.get(0).getTitle()).isEqualTo(article.getTitle());
+        assertThat(summaries.get(0).getKeywords()).contains("privacy");
+    }
+
+    @Test
+    void getCatalogValidators_SameOnEveryNode() {
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article));
+        GdprArticleService otherNode = newService();
+
+        assertThat(otherNode.getCatalogValidators()).isEqualTo(gdprArticleService.getCatalogValidators());
+    }
+
+    @Test
+    void getCatalogValidators_ChangeWhenArticleUpdated() {
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article));
+        CacheValidators before = gdprArticleService.getCatalogValidators();
+        CacheValidators articleBefore = gdprArticleService.getArticleValidators(articleId);
+
+        when(gdprArticleRepository.findById(articleId)).thenReturn(Optional.of(article));
+        when(gdprArticleRepository.saveAndFlush(any(GdprArticle.class))).thenAnswer(invocation -> {
+            GdprArticle saved = invocation.getArgument(0);
+            saved.setUpdatedAt(saved.getUpdatedAt().plusMinutes(5));
+            return saved;
+        });
+        gdprArticleService.updateArticle(articleId, articleDto);
+
+        CacheValidators after = gdprArticleService.getCatalogValidators();
+        assertThat(after.eTag()).isNotEqualTo(before.eTag());
+        assertThat(after.lastModified()).isGreaterThan(before.lastModified());
+        assertThat(gdprArticleService.getArticleValidators(articleId).eTag()).isNotEqualTo(articleBefore.eTag());
+    }
+
+    @Test
+    void getEncodedArticles_DecodesToListingAndIsReusedPerVersion() throws Exception {
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article));
+
+        EncodedCatalog.Variant gzip = gdprArticleService.getEncodedArticles("br, gzip;q=0.9, deflate;q=0.8");
+        EncodedCatalog.Variant plain = gdprArticleService.getEncodedArticles(null);
+
+        assertThat(gzip.contentEncoding()).isEqualTo(EncodedCatalog.GZIP);
+        assertThat(plain.contentEncoding()).isNull();
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.body()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain.body());
+        }
+        assertThat(objectMapper.readTree(plain.body()))
+            .isEqualTo(objectMapper.valueToTree(gdprArticleService.getAllArticles()));
+        assertThat(gdprArticleService.getEncodedArticles("gzip").body()).isSameAs(gzip.body());
+    }
+
+    @Test
+    void getEncodedArticleSummaries_HonoursAcceptEncoding() throws Exception {
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article));
+        byte[] plain = gdprArticleService.getEncodedArticleSummaries("identity").body();
+
+        EncodedCatalog.Variant deflate = gdprArticleService.getEncodedArticleSummaries("gzip;q=0.5, deflate");
+        assertThat(deflate.contentEncoding()).isEqualTo(EncodedCatalog.DEFLATE);
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(deflate.body()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain);
+        }
+        assertThat(gdprArticleService.getEncodedArticleSummaries("gzip;q=0, deflate;q=0").contentEncoding()).isNull();
+        assertThat(gdprArticleService.getEncodedArticleSummaries("*").contentEncoding()).isEqualTo(EncodedCatalog.GZIP);
+    }
+
+    @Test
+    void suggest_FollowsArticleDeletes() {
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article));
+        assertThat(gdprArticleService.suggest("inform", 5)).extracting(ArticleSuggestionDto::getArticleId)
+            .contains(articleId);
+
+        when(gdprArticleRepository.existsById(articleId)).thenReturn(true);
+        gdprArticleService.deleteArticle(articleId);
+
+        assertThat(gdprArticleService.suggest("inform", 5)).isEmpty();
+    }
+
+    @Test
+    void createArticle_DuplicateNumber_ThrowsException() {
+        when(gdprArticleRepository.existsByArticleNumber("Art13")).thenReturn(true);
+
+        assertThatThrownBy(() -> gdprArticleService.createArticle(articleDto))
+            .isInstanceOf(DuplicateResourceException.class);
+        verify(gdprArticleRepository, never()).save(any(GdprArticle.class));
+    }
+
+    @Test
+    void getArticleReferences_FollowsArticleUpdates() {
+        GdprArticle citing = new GdprArticle();
+        citing.setId(UUID.randomUUID());
+        citing.setArticleNumber("Art15");
+        citing.setTitle("Right of access");
+        citing.setContent("The information referred to in Article 13.");
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article, citing));
+
+        ArticleReferencesDto before = gdprArticleService.getArticleReferences(articleId);
+        assertThat(before.getReferences()).isEmpty();
+        assertThat(before.getReferencedBy()).extracting(GdprArticleSummaryDto::getId).containsExactly(citing.getId());
+
+        articleDto.setContent("Without prejudice to Article 15.");
+        when(gdprArticleRepository.findById(articleId)).thenReturn(Optional.of(article));
+        when(gdprArticleRepository.saveAndFlush(any(GdprArticle.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        gdprArticleService.updateArticle(articleId, articleDto);
+
+        assertThat(gdprArticleService.getArticleReferences(articleId).getReferences())
+            .extracting(GdprArticleSummaryDto::getId).containsExactly(citing.getId());
+        verify(articleReferenceStore).sync(argThat(catalog -> catalog.getCitations().size() == 2));
+    }
+
     @Test
     void getArticlesByNumber_Success() {
         String articleNumber = "Art13";
-        when(gdprArticleRepository.findByArticleNumber(articleNumber)).thenReturn(Arrays.asList(article));
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article));
 
         List<GdprArticleDto> results = gdprArticleService.getArticlesByNumber(articleNumber);
 
@@ -142,27 +355,57 @@ class GdprArticleServiceTest {
 
     @Test
     void saveArticleForUser_Success() {
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(gdprArticleRepository.findById(articleId)).thenReturn(Optional.of(article));
-        when(savedArticleRepository.existsByUserIdAndArticleId(userId, articleId)).thenReturn(false);
-        when(savedArticleRepository.save(any(SavedArticle.class))).thenReturn(savedArticle);
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article));
+        when(savedArticleRepository.insertIfAbsent(eq(userId), eq(List.of(articleId)), any(LocalDateTime.class)))
+            .thenReturn(List.of(savedKey(savedArticleId, articleId)));
 
         SavedArticleDto result = gdprArticleService.saveArticleForUser(articleId, userId);
 
-        assertThat(result).isNotNull();
+        assertThat(result.getId()).isEqualTo(savedArticleId);
         assertThat(result.getArticleId()).isEqualTo(articleId);
-        verify(savedArticleRepository).save(any(SavedArticle.class));
+        assertThat(result.getTitle()).isEqualTo(article.getTitle());
+        verify(gdprArticleRepository, never()).findById(any());
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
     void saveArticleForUser_AlreadySaved_ThrowsException() {
-        when(savedArticleRepository.existsByUserIdAndArticleId(userId, articleId)).thenReturn(true);
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article));
+        when(savedArticleRepository.insertIfAbsent(eq(userId), eq(List.of(articleId)), any(LocalDateTime.class)))
+            .thenReturn(List.of());
 
         assertThatThrownBy(() -> gdprArticleService.saveArticleForUser(articleId, userId))
             .isInstanceOf(DuplicateResourceException.class)
             .hasMessage("Article already saved for this user");
+    }
+
+    @Test
+    void saveArticleForUser_UnknownArticle_ThrowsException() {
+        when(gdprArticleRepository.findAll()).thenReturn(List.of());
 
-        verify(savedArticleRepository, never()).save(any(SavedArticle.class));
+        assertThatThrownBy(() -> gdprArticleService.saveArticleForUser(articleId, userId))
+            .isInstanceOf(ResourceNotFoundException.class);
+        verify(savedArticleRepository, never()).insertIfAbsent(any(), any(), any());
+    }
+
+    @Test
+    void saveArticlesForUser_ReportsOutcomePerArticle() {
+        UUID alreadySaved = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        GdprArticle other = new GdprArticle();
+        other.setId(alreadySaved);
+        other.setArticleNumber("Art14");
+        other.setTitle("Information not obtained from the data subject");
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article, other));
+        when(savedArticleRepository.insertIfAbsent(eq(userId), eq(List.of(articleId, alreadySaved)), any(LocalDateTime.class)))
+            .thenReturn(List.of(savedKey(savedArticleId, articleId)));
+
+        SavedArticleBatchResultDto result = gdprArticleService.saveArticlesForUser(
+            List.of(articleId, unknown, alreadySaved, articleId), userId);
+
+        assertThat(result.getUpdated()).containsExactly(articleId);
+        assertThat(result.getUnchanged()).containsExactly(alreadySaved);
+        assertThat(result.getNotFound()).containsExactly(unknown);
     }
 
     @Test
@@ -175,14 +418,66 @@ class GdprArticleServiceTest {
         assertThat(results).hasSize(1);
     }
 
+    @Test
+    void getUserSavedArticleSummaries_UsesProjection() {
+        SavedArticleSummaryDto summary = new SavedArticleSummaryDto(savedArticleId, articleId, "Art13",
+            "Right to be Informed", new String[]{"privacy"}, LocalDateTime.now());
+        when(userRepository.existsById(userId)).thenReturn(true);
+        when(savedArticleRepository.findSummariesByUserId(userId)).thenReturn(List.of(summary));
+
+        List<SavedArticleSummaryDto> results = gdprArticleService.getUserSavedArticleSummaries(userId);
+
+        assertThat(results).containsExactly(summary);
+        verify(savedArticleRepository, never()).findByUserId(any());
+    }
+
     @Test
     void removeSavedArticle_Success() {
-        when(savedArticleRepository.findById(savedArticleId)).thenReturn(Optional.of(savedArticle));
-        doNothing().when(savedArticleRepository).delete(savedArticle);
+        when(savedArticleRepository.deleteByIdAndUserId(savedArticleId, userId))
+            .thenReturn(List.of(savedKey(savedArticleId, articleId)));
 
         gdprArticleService.removeSavedArticle(userId, savedArticleId);
 
-        verify(savedArticleRepository).delete(savedArticle);
+        verify(savedArticleRepository).deleteByIdAndUserId(savedArticleId, userId);
+    }
+
+    @Test
+    void removeSavedArticle_OtherUsersArticle_ThrowsException() {
+        when(savedArticleRepository.deleteByIdAndUserId(savedArticleId, userId)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> gdprArticleService.removeSavedArticle(userId, savedArticleId))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void withSavedFlags_FollowsSavesAndRemovalsWithoutReloading() {
+        GdprArticle other = new GdprArticle();
+        other.setId(UUID.randomUUID());
+        other.setArticleNumber("Art14");
+        other.setTitle("Information not obtained from the data subject");
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article, other));
+        when(savedArticleRepository.findArticleIdsByUserId(userId)).thenReturn(List.of(articleId));
+
+        List<GdprArticleDto> listed = gdprArticleService.withSavedFlags(gdprArticleService.getAllArticles(), userId);
+
+        assertThat(listed).extracting(GdprArticleDto::getSaved).containsExactly(true, false);
+        assertThat(gdprArticleService.getAllArticles()).extracting(GdprArticleDto::getSaved).containsOnlyNulls();
+        assertThat(gdprArticleService.withSavedFlags(gdprArticleService.getAllArticles(), null))
+            .extracting(GdprArticleDto::getSaved).containsOnlyNulls();
+
+        CacheValidators before = gdprArticleService.getCatalogValidators(userId);
+        when(savedArticleRepository.insertIfAbsent(eq(userId), eq(List.of(other.getId())), any(LocalDateTime.class)))
+            .thenReturn(List.of(savedKey(UUID.randomUUID(), other.getId())));
+        when(savedArticleRepository.deleteByIdAndUserId(savedArticleId, userId))
+            .thenReturn(List.of(savedKey(savedArticleId, articleId)));
+        gdprArticleService.saveArticleForUser(other.getId(), userId);
+        gdprArticleService.removeSavedArticle(userId, savedArticleId);
+
+        assertThat(gdprArticleService.getArticleSummaries(userId))
+            .extracting(GdprArticleSummaryDto::getSaved).containsExactly(false, true);
+        assertThat(gdprArticleService.getCatalogValidators(userId).eTag()).isNotEqualTo(before.eTag());
+        assertThat(gdprArticleService.getCatalogValidators().eTag()).isNotEqualTo(before.eTag());
+        verify(savedArticleRepository, times(1)).findArticleIdsByUserId(userId);
     }
 
     @Test
@@ -199,13 +494,43 @@ class GdprArticleServiceTest {
     @Test
     void updateArticle_Success() {
         when(gdprArticleRepository.findById(articleId)).thenReturn(Optional.of(article));
-        when(gdprArticleRepository.save(any(GdprArticle.class))).thenReturn(article);
+        when(gdprArticleRepository.saveAndFlush(any(GdprArticle.class))).thenReturn(article);
 
         GdprArticleDto result = gdprArticleService.updateArticle(articleId, articleDto);
 
         assertThat(result).isNotNull();
         assertThat(result.getTitle()).isEqualTo(articleDto.getTitle());
-        verify(gdprArticleRepository).save(any(GdprArticle.class));
+        verify(gdprArticleRepository).saveAndFlush(any(GdprArticle.class));
+    }
+
+    @Test
+    void updateArticle_ReplacesCatalogEntry() {
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article));
+        gdprArticleService.getAllArticles();
+
+        GdprArticle updated = new GdprArticle();
+        updated.setId(articleId);
+        updated.setArticleNumber("Art13");
+        updated.setTitle("Updated title");
+        when(gdprArticleRepository.findById(articleId)).thenReturn(Optional.of(updated));
+        when(gdprArticleRepository.saveAndFlush(any(GdprArticle.class))).thenReturn(updated);
+
+        gdprArticleService.updateArticle(articleId, articleDto);
+
+        assertThat(gdprArticleService.getArticleById(articleId).getTitle()).isEqualTo(articleDto.getTitle());
+        assertThat(gdprArticleService.getAllArticles()).hasSize(1);
+    }
+
+    @Test
+    void deleteArticle_RemovesCatalogEntry() {
+        when(gdprArticleRepository.findAll()).thenReturn(Arrays.asList(article));
+        gdprArticleService.getAllArticles();
+        when(gdprArticleRepository.existsById(articleId)).thenReturn(true);
+
+        gdprArticleService.deleteArticle(articleId);
+
+        assertThat(gdprArticleService.getAllArticles()).isEmpty();
+        assertThat(gdprArticleService.getArticlesByNumber("Art13")).isEmpty();
     }
 
     @Test
@@ -216,7 +541,7 @@ class GdprArticleServiceTest {
             .isInstanceOf(ResourceNotFoundException.class)
             .hasMessage("Article not found");
 
-        verify(gdprArticleRepository, never()).save(any(GdprArticle.class));
+        verify(gdprArticleRepository, never()).saveAndFlush(any(GdprArticle.class));
     }
 
     @Test
@@ -0,0 +1,103 @@
+package com.project.gdpr;
+
+import com.project.gdpr.config.JwtService;
+import com.project.gdpr.config.VerifiedToken;
+import com.project.gdpr.entity.UserRole;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "92D85F6314552F7CA7F89E95177CF89AABBCCDDEEFF1234";
+    private static final String OTHER_SECRET = "AABBCCDDEEFF123492D85F6314552F7CA7F89E95177CF89";
+
+    private JwtService jwtService;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET, 60_000L, 120_000L, false);
+        userDetails = User.withUsername("testuser").password("n/a").roles("VIEWER").build();
+    }
+
+    @Test
+    void verify_ValidToken_ReturnsSubjectExpiryAndClaims() {
+        String token = jwtService.generateToken(Map.of("department", "legal"), userDetails);
+
+        Optional<VerifiedToken> result = jwtService.verify(token);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getSubject()).isEqualTo("testuser");
+        assertThat(result.get().getExpiration()).isAfter(new Date());
+        assertThat(result.get().getClaim("department", String.class)).isEqualTo("legal");
+    }
+
+    @Test
+    void verify_ExpiredToken_ReturnsEmpty() {
+        JwtService expiringService = new JwtService(SECRET, -1_000L, -1_000L, false);
+        String token = expiringService.generateToken(userDetails);
+
+        assertThat(jwtService.verify(token)).isEmpty();
+    }
+
+    @Test
+    void verify_TokenSignedWithOtherKey_ReturnsEmpty() {
+        String token = new JwtService(OTHER_SECRET, 60_000L, 120_000L, false).generateToken(userDetails);
+
+        assertThat(jwtService.verify(token)).isEmpty();
+    }
+
+    @Test
+    void verify_MalformedToken_ReturnsEmpty() {
+        assertThat(jwtService.verify("not-a-jwt")).isEmpty();
+        assertThat(jwtService.verify("")).isEmpty();
+    }
+
+    @Test
+    void generateToken_StatelessPrincipal_EmbedsIdRoleAndVersion() {
+        JwtService statelessService = new JwtService(SECRET, 60_000L, 120_000L, true);
+        com.project.gdpr.entity.User user = new com.project.gdpr.entity.User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("testuser");
+        user.setRole(UserRole.EDITOR);
+        user.setTokenVersion(3);
+
+        VerifiedToken token = statelessService.verify(statelessService.generateToken(user)).orElseThrow();
+
+        assertThat(token.getClaim(JwtService.USER_ID_CLAIM, String.class)).isEqualTo(user.getId().toString());
+        assertThat(token.getClaim(JwtService.ROLE_CLAIM, String.class)).isEqualTo("EDITOR");
+        assertThat(token.getClaim(JwtService.TOKEN_VERSION_CLAIM, Long.class)).isEqualTo(3L);
+    }
+
+    @Test
+    void generateToken_DefaultMode_OnlySetsSubject() {
+        com.project.gdpr.entity.User user = new com.project.gdpr.entity.User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("testuser");
+        user.setRole(UserRole.EDITOR);
+
+        VerifiedToken token = jwtService.verify(jwtService.generateToken(user)).orElseThrow();
+
+        assertThat(token.getSubject()).isEqualTo("testuser");
+        assertThat(token.getClaim(JwtService.USER_ID_CLAIM, String.class)).isNull();
+    }
+
+    @Test
+    void isTokenValid_ChecksSubjectAgainstUser() {
+        String token = jwtService.generateToken(userDetails);
+        UserDetails otherUser = User.withUsername("someoneelse").password("n/a").roles("VIEWER").build();
+
+        assertThat(jwtService.isTokenValid(token, userDetails)).isTrue();
+        assertThat(jwtService.isTokenValid(token, otherUser)).isFalse();
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.gdpr;
+
+import com.project.gdpr.dto.GdprArticleDto;
+import com.project.gdpr.dto.KeywordFacetDto;
+import com.project.gdpr.search.ArticleSearchIndex;
+import com.project.gdpr.search.KeywordFacets;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordFacetsTest {
+
+    private static GdprArticleDto article(String title, String... keywords) {
+        GdprArticleDto dto = new GdprArticleDto();
+        dto.setId(UUID.randomUUID());
+        dto.setTitle(title);
+        dto.setContent(title);
+        dto.setKeywords(keywords);
+        return dto;
+    }
+
+    private final GdprArticleDto[] corpus = {
+            article("Consent conditions", "consent", "data subject"),
+            null,
+            article("Breach notification", "data breach", "Supervisory Authority", "Data Subject"),
+            article("Impact assessment", "DPIA", "supervisory authority", "consent")
+    };
+
+    @Test
+    void counts_EveryKeywordMostUsedFirst() {
+        KeywordFacets facets = KeywordFacets.build(corpus);
+
+        assertThat(facets.counts(null)).containsExactly(
+                new KeywordFacetDto("consent", 2),
+                new KeywordFacetDto("data subject", 2),
+                new KeywordFacetDto("Supervisory Authority", 2),
+                new KeywordFacetDto("data breach", 1),
+                new KeywordFacetDto("DPIA", 1));
+    }
+
+    @Test
+    void filter_IntersectsOrUnitesKeywordsIgnoringCase() {
+        KeywordFacets facets = KeywordFacets.build(corpus);
+
+        assertThat(facets.filter(List.of("CONSENT", "supervisory authority"), KeywordFacets.Match.ALL))
+                .isEqualTo(BitSet.valueOf(new long[]{0b1000}));
+        assertThat(facets.filter(List.of("dpia", "data breach"), KeywordFacets.Match.ANY))
+                .isEqualTo(BitSet.valueOf(new long[]{0b1100}));
+        assertThat(facets.filter(List.of("consent", "unknown"), KeywordFacets.Match.ALL)).isEqualTo(new BitSet());
+        assertThat(facets.filter(List.of(" "), KeywordFacets.Match.ALL)).isNull();
+    }
+
+    @Test
+    void countsAndSearch_RestrictedToFilter() {
+        KeywordFacets facets = KeywordFacets.build(corpus);
+        BitSet consent = facets.filter(List.of("consent"), KeywordFacets.Match.ALL);
+
+        assertThat(facets.counts(consent)).containsExactly(
+                new KeywordFacetDto("consent", 2),
+                new KeywordFacetDto("data subject", 1),
+                new KeywordFacetDto("DPIA", 1),
+                new KeywordFacetDto("Supervisory Authority", 1));
+        assertThat(ArticleSearchIndex.build(corpus).search("breach assessment conditions", 10, consent))
+                .extracting(ArticleSearchIndex.Hit::ordinal)
+                .containsExactlyInAnyOrder(0, 3);
+    }
+}
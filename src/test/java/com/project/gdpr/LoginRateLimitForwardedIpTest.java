@@ -0,0 +1,57 @@
+package com.project.gdpr;
+
+import com.project.gdpr.dto.JwtResponseDto;
+import com.project.gdpr.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Goes through the embedded Tomcat, whose RemoteIpValve (server.forward-headers-strategy=native) is what
+ * turns X-Forwarded-For from a trusted proxy into the client address the per-IP buckets are keyed on.
+ * The test client connects from 127.0.0.1, one of the trusted proxy addresses.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "application.security.login.rate-limit.ip.capacity=2",
+        "application.security.login.rate-limit.ip.refill-period=1h"
+})
+class LoginRateLimitForwardedIpTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @MockBean
+    private UserService userService;
+
+    @Test
+    void login_ForwardedClientsGetSeparateIpBuckets() {
+        when(userService.login(any())).thenReturn(new JwtResponseDto());
+
+        assertThat(login("203.0.113.7", "a1@example.com")).isEqualTo(HttpStatus.OK);
+        assertThat(login("203.0.113.7", "a2@example.com")).isEqualTo(HttpStatus.OK);
+        assertThat(login("203.0.113.7", "a3@example.com")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+        assertThat(login("198.51.100.23", "b1@example.com")).isEqualTo(HttpStatus.OK);
+    }
+
+    private HttpStatus login(String clientIp, String email) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", clientIp);
+        Map<String, String> body = Map.of("email", email, "password", "Passw0rd!x");
+        return HttpStatus.valueOf(restTemplate.postForEntity("/api/users/login", new HttpEntity<>(body, headers),
+                String.class).getStatusCode().value());
+    }
+}
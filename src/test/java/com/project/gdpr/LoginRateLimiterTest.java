@@ -0,0 +1,66 @@
+package com.project.gdpr;
+
+import com.project.gdpr.exception.RateLimitExceededException;
+import com.project.gdpr.security.LoginRateLimiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginRateLimiterTest {
+
+    private AtomicLong clock;
+    private SimpleMeterRegistry meterRegistry;
+    private LoginRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000_000L);
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new LoginRateLimiter(
+                new LoginRateLimiter.BucketSpec(10, Duration.ofSeconds(1)),
+                new LoginRateLimiter.BucketSpec(3, Duration.ofSeconds(10)),
+                1000, meterRegistry, clock::get);
+    }
+
+    @Test
+    void checkLogin_AccountBucketExhausted_ThrowsWithRetryAfter() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.checkLogin("10.0.0.1", "user@example.com");
+        }
+
+        assertThatThrownBy(() -> rateLimiter.checkLogin("10.0.0.2", "USER@example.com "))
+            .isInstanceOf(RateLimitExceededException.class)
+            .satisfies(ex -> assertThat(((RateLimitExceededException) ex).getRetryAfterSeconds()).isEqualTo(10));
+        assertThat(meterRegistry.counter("login.rate_limit.rejections", "scope", "account").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void checkLogin_BucketRefillsOverTime() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.checkLogin("10.0.0.1", "user@example.com");
+        }
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThatCode(() -> rateLimiter.checkLogin("10.0.0.1", "user@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void checkRegistration_IpBucketIsSharedAcrossAccounts() {
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.checkLogin("10.0.0.1", "user" + i + "@example.com");
+        }
+
+        assertThatThrownBy(() -> rateLimiter.checkRegistration("10.0.0.1"))
+            .isInstanceOf(RateLimitExceededException.class);
+        assertThatCode(() -> rateLimiter.checkRegistration("10.0.0.9")).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,134 @@
+package com.project.gdpr;
+
+import com.project.gdpr.config.JwtService;
+import com.project.gdpr.entity.RefreshToken;
+import com.project.gdpr.entity.User;
+import com.project.gdpr.entity.UserRole;
+import com.project.gdpr.exception.UnauthorizedAccessException;
+import com.project.gdpr.repository.RefreshTokenRepository;
+import com.project.gdpr.service.RefreshTokenService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    private static final String SECRET = "92D85F6314552F7CA7F89E95177CF89AABBCCDDEEFF1234";
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private JwtService jwtService;
+    private RefreshTokenService refreshTokenService;
+    private User user;
+    private UUID familyId;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET, 60_000L, 120_000L, false);
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, jwtService);
+        familyId = UUID.randomUUID();
+
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("testuser");
+        user.setRole(UserRole.VIEWER);
+    }
+
+    @Test
+    void issue_PersistsTokenAndEmbedsItsId() {
+        UUID tokenId = UUID.randomUUID();
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
+            RefreshToken saved = invocation.getArgument(0);
+            saved.setId(tokenId);
+            return saved;
+        });
+
+        String token = refreshTokenService.issue(user);
+
+        assertThat(jwtService.verify(token)).hasValueSatisfying(verified -> {
+            assertThat(verified.isRefreshToken()).isTrue();
+            assertThat(verified.getClaims().getId()).isEqualTo(tokenId.toString());
+        });
+    }
+
+    @Test
+    void rotate_UnusedToken_MarksUsedAndIssuesTokenInSameFamily() {
+        RefreshToken stored = storedToken(UUID.randomUUID());
+        when(refreshTokenRepository.findByIdWithUser(stored.getId())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markUsed(eq(stored.getId()), any(LocalDateTime.class))).thenReturn(1);
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
+            RefreshToken saved = invocation.getArgument(0);
+            saved.setId(UUID.randomUUID());
+            return saved;
+        });
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(
+                jwtService.generateRefreshToken(user, stored.getId()));
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertThat(captor.getValue().getFamilyId()).isEqualTo(familyId);
+        assertThat(rotation.user()).isSameAs(user);
+        assertThat(jwtService.verify(rotation.refreshToken())).isPresent();
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+    }
+
+    @Test
+    void rotate_AlreadyUsedToken_RevokesFamily() {
+        RefreshToken stored = storedToken(UUID.randomUUID());
+        stored.setUsedAt(LocalDateTime.now().minusMinutes(1));
+        when(refreshTokenRepository.findByIdWithUser(stored.getId())).thenReturn(Optional.of(stored));
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(jwtService.generateRefreshToken(user, stored.getId())))
+            .isInstanceOf(UnauthorizedAccessException.class);
+
+        verify(refreshTokenRepository).revokeFamily(familyId);
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+
+    @Test
+    void rotate_ConcurrentUse_RevokesFamily() {
+        RefreshToken stored = storedToken(UUID.randomUUID());
+        when(refreshTokenRepository.findByIdWithUser(stored.getId())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markUsed(eq(stored.getId()), any(LocalDateTime.class))).thenReturn(0);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(jwtService.generateRefreshToken(user, stored.getId())))
+            .isInstanceOf(UnauthorizedAccessException.class);
+
+        verify(refreshTokenRepository).revokeFamily(familyId);
+    }
+
+    @Test
+    void rotate_AccessToken_IsRejectedWithoutLookup() {
+        assertThatThrownBy(() -> refreshTokenService.rotate(jwtService.generateToken(user)))
+            .isInstanceOf(UnauthorizedAccessException.class)
+            .hasMessage("Invalid refresh token");
+
+        verifyNoInteractions(refreshTokenRepository);
+    }
+
+    private RefreshToken storedToken(UUID id) {
+        RefreshToken stored = new RefreshToken();
+        stored.setId(id);
+        stored.setUser(user);
+        stored.setFamilyId(familyId);
+        stored.setExpiresAt(LocalDateTime.now().plusDays(1));
+        return stored;
+    }
+}
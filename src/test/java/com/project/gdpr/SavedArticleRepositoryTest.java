@@ -0,0 +1,108 @@
+package com.project.gdpr;
+
+import com.project.gdpr.repository.SavedArticleKey;
+import com.project.gdpr.repository.SavedArticleRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the native save/unsave statements against a real PostgreSQL. Duplicate saves are seeded before
+ * V12 is applied so the migration's clean-up is covered too.
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SavedArticleRepositoryTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @RegisterExtension
+    static final EmbeddedPostgresExtension POSTGRES =
+            EmbeddedPostgresExtension.seededAt("11", SavedArticleRepositoryTest::seedDuplicateSaves);
+
+    @Autowired
+    private SavedArticleRepository savedArticleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        POSTGRES.register(registry);
+    }
+
+    @Test
+    void migration_KeepsEarliestSaveOfEachArticle() {
+        List<LocalDateTime> savedAt = jdbcTemplate.queryForList(
+                "SELECT s.saved_at FROM saved_articles s JOIN gdprarticles a ON a.id = s.article_id "
+                        + "WHERE s.user_id = ? AND a.article_number = 'Article 1'", LocalDateTime.class, USER_ID);
+
+        assertThat(savedAt).containsExactly(LocalDateTime.of(2024, 1, 1, 9, 0));
+    }
+
+    @Test
+    void insertIfAbsent_SkipsSavedAndUnknownArticles() {
+        UUID saved = articleId("Article 1");
+        UUID fresh = articleId("Article 2");
+
+        List<SavedArticleKey> inserted = savedArticleRepository.insertIfAbsent(
+                USER_ID, List.of(saved, fresh, UUID.randomUUID()), LocalDateTime.now());
+
+        assertThat(inserted).extracting(SavedArticleKey::getArticleId).containsExactly(fresh);
+        assertThat(inserted.get(0).getId()).isNotNull();
+        assertThat(savedArticleRepository.insertIfAbsent(USER_ID, List.of(fresh), LocalDateTime.now())).isEmpty();
+    }
+
+    @Test
+    void deleteByUserIdAndArticleIds_ReturnsRemovedRowsOnly() {
+        UUID saved = articleId("Article 1");
+        UUID notSaved = articleId("Article 3");
+
+        List<SavedArticleKey> removed = savedArticleRepository.deleteByUserIdAndArticleIds(
+                USER_ID, List.of(saved, notSaved));
+
+        assertThat(removed).extracting(SavedArticleKey::getArticleId).containsExactly(saved);
+        assertThat(savedArticleRepository.deleteByUserIdAndArticleIds(USER_ID, List.of(saved))).isEmpty();
+    }
+
+    @Test
+    void findArticleIdsByUserId_ReadsOnlyTheUsersRows() {
+        assertThat(savedArticleRepository.findArticleIdsByUserId(USER_ID)).containsExactly(articleId("Article 1"));
+        assertThat(savedArticleRepository.findArticleIdsByUserId(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void deleteByIdAndUserId_IgnoresOtherUsersRows() {
+        UUID id = jdbcTemplate.queryForObject("SELECT id FROM saved_articles WHERE user_id = ?", UUID.class, USER_ID);
+
+        assertThat(savedArticleRepository.deleteByIdAndUserId(id, UUID.randomUUID())).isEmpty();
+        assertThat(savedArticleRepository.deleteByIdAndUserId(id, USER_ID))
+                .extracting(SavedArticleKey::getArticleId).containsExactly(articleId("Article 1"));
+    }
+
+    private UUID articleId(String articleNumber) {
+        return jdbcTemplate.queryForObject("SELECT id FROM gdprarticles WHERE article_number = ?",
+                UUID.class, articleNumber);
+    }
+
+    private static void seedDuplicateSaves(JdbcTemplate jdbc) {
+        jdbc.update("INSERT INTO Users (id, email, username, password_hash, role) "
+                + "VALUES (?, 'saver@example.com', 'saver', 'x', 'VIEWER')", USER_ID);
+        for (String savedAt : List.of("2024-03-01 09:00", "2024-01-01 09:00", "2024-02-01 09:00")) {
+            jdbc.update("INSERT INTO saved_articles (user_id, article_id, saved_at) "
+                    + "SELECT ?, id, ?::timestamp FROM gdprarticles WHERE article_number = 'Article 1'",
+                    USER_ID, savedAt);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.project.gdpr;
+
+import com.project.gdpr.dto.TaskBatchItemDto;
+import com.project.gdpr.dto.TaskBatchResultDto;
+import com.project.gdpr.dto.TaskCreateDto;
+import com.project.gdpr.dto.TaskDto;
+import com.project.gdpr.dto.TaskFilterDto;
+import com.project.gdpr.entity.Priority;
+import com.project.gdpr.entity.TaskStatus;
+import com.project.gdpr.dto.TaskPageDto;
+import com.project.gdpr.exception.InvalidCursorException;
+import com.project.gdpr.repository.CommentRepository;
+import com.project.gdpr.repository.TaskRepository;
+import com.project.gdpr.repository.UserRepository;
+import com.project.gdpr.service.SearchResultCache;
+import com.project.gdpr.service.TaskCursor;
+import com.project.gdpr.service.TaskService;
+import com.project.gdpr.service.TaskStatistics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the task listings against a real PostgreSQL with enough rows that the planner has to choose,
+ * and checks with EXPLAIN that the SQL Hibernate generates is answered from the intended indexes.
+ * Every seeded task shares one created_at, so paging has to rely on the id tie-breaker. Seeded tasks
+ * reference 20 users, which the listings must not load.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.project.gdpr.TaskSearchQueryPlanTest$CapturedSql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TaskSearchQueryPlanTest {
+
+    @RegisterExtension
+    static final EmbeddedPostgresExtension POSTGRES = EmbeddedPostgresExtension.seeded(TaskSearchQueryPlanTest::seed);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TaskService taskService;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        POSTGRES.register(registry);
+    }
+
+    @BeforeEach
+    void setUp() {
+        // ddl-auto may have rewritten column types after seeding, which drops their statistics
+        jdbcTemplate.execute("ANALYZE tasks");
+        taskService = new TaskService(taskRepository, userRepository, commentRepository,
+                new SearchResultCache(100, Duration.ofMinutes(10), Duration.ofSeconds(30), new SimpleMeterRegistry()),
+                new TaskStatistics(taskRepository));
+        CapturedSql.STATEMENTS.clear();
+    }
+
+    @Test
+    void searchTasks_UsesTrigramIndexes() {
+        TaskPageDto page = taskService.searchTasks("FINDME-4242", "ALL", "ALL", TaskCursor.Sort.CREATED_AT, null, 50);
+
+        assertThat(page.getItems()).extracting(TaskDto::getTitle).containsExactly("Audit vendor contract FINDME-4242");
+        String plan = explain(CapturedSql.last(), "%findme-4242%", "%findme-4242%", 51);
+        assertThat(plan)
+                .contains("idx_tasks_title_trgm")
+                .contains("idx_tasks_description_trgm")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void searchTasks_EmptyTermHasNoTextPredicate() {
+        TaskPageDto page = taskService.searchTasks("", "CLOSED", "ALL", TaskCursor.Sort.CREATED_AT, null, 50);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(CapturedSql.last()).doesNotContainIgnoringCase("like");
+    }
+
+    @Test
+    void searchTasks_EscapesLikeWildcards() {
+        jdbcTemplate.update("INSERT INTO tasks (title, priority, status) VALUES ('Discount 50%_off!', 'LOW', 'OPEN'), "
+                + "('Discount 50 percent off', 'LOW', 'OPEN'), ('Discount 500 offers', 'LOW', 'OPEN')");
+
+        TaskPageDto page = taskService.searchTasks("50%_off!", "ALL", "LOW", TaskCursor.Sort.CREATED_AT, null, 50);
+
+        assertThat(page.getItems()).extracting(TaskDto::getTitle).containsExactly("Discount 50%_off!");
+    }
+
+    @Test
+    void getAllTasks_PagesThroughEveryTaskOnceNewestFirst() {
+        List<TaskDto> all = readAll(TaskCursor.Sort.CREATED_AT);
+
+        assertThat(all).hasSize(taskCount());
+        assertThat(all).extracting(TaskDto::getId).doesNotHaveDuplicates();
+        assertThat(all).extracting(TaskDto::getCreatedAt).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void getAllTasks_PagesThroughEveryTaskOnceByDueDate() {
+        List<TaskDto> all = readAll(TaskCursor.Sort.DUE_DATE);
+
+        assertThat(all).hasSize(taskCount());
+        assertThat(all).extracting(TaskDto::getId).doesNotHaveDuplicates();
+        assertThat(all).extracting(TaskDto::getDueDate)
+                .isSortedAccordingTo(Comparator.nullsLast(Comparator.naturalOrder()));
+        assertThat(all.get(all.size() - 1).getDueDate()).isNull();
+    }
+
+    @Test
+    void getAllTasks_ResumesFromTheIndexAtTheCursor() {
+        TaskPageDto first = taskService.getAllTasks(TaskCursor.Sort.CREATED_AT, null, 100);
+        TaskCursor cursor = TaskCursor.decode(first.getNextCursor(), TaskCursor.Sort.CREATED_AT);
+        CapturedSql.STATEMENTS.clear();
+
+        TaskPageDto second = taskService.getAllTasks(TaskCursor.Sort.CREATED_AT, first.getNextCursor(), 100);
+
+        assertThat(second.getItems()).hasSize(100);
+        assertThat(second.getItems().get(0).getId()).isNotEqualTo(cursor.id());
+        String plan = explain(CapturedSql.last(), cursor.key(), cursor.key(), cursor.id(), 101);
+        assertThat(plan).contains("idx_tasks_created").doesNotContain("Seq Scan").doesNotContain("Sort");
+    }
+
+    @Test
+    void getAllTasks_RejectsCursorOfAnotherSort() {
+        String cursor = taskService.getAllTasks(TaskCursor.Sort.CREATED_AT, null, 10).getNextCursor();
+
+        assertThatThrownBy(() -> taskService.getAllTasks(TaskCursor.Sort.DUE_DATE, cursor, 10))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> taskService.getAllTasks(TaskCursor.Sort.CREATED_AT, "not a cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void getAllTasks_ReadsAPageInOneStatementWithoutUsers() {
+        TaskPageDto page = taskService.getAllTasks(TaskCursor.Sort.CREATED_AT, null, 200);
+
+        assertThat(page.getItems()).hasSize(200).anySatisfy(task -> assertThat(task.getAssigneeId()).isNotNull());
+        assertThat(CapturedSql.STATEMENTS).hasSize(1);
+        assertThat(CapturedSql.last()).doesNotContainIgnoringCase("users").doesNotContainIgnoringCase("join");
+    }
+
+    @Test
+    void getTasksByAssignee_ReadsAPageInOneStatementPerIndexRange() {
+        UUID assigneeId = jdbcTemplate.queryForObject("SELECT assignee_id FROM tasks WHERE assignee_id IS NOT NULL "
+                + "LIMIT 1", UUID.class);
+
+        String cursor = taskService.getTasksByAssignee(assigneeId, TaskCursor.Sort.DUE_DATE, null, 200).getNextCursor();
+        CapturedSql.STATEMENTS.clear();
+
+        TaskPageDto page = taskService.getTasksByAssignee(assigneeId, TaskCursor.Sort.DUE_DATE, cursor, 200);
+
+        // The scheduled tasks run out on this page, so the unscheduled range is read as well
+        assertThat(page.getItems()).hasSize(200).allSatisfy(task -> assertThat(task.getAssigneeId()).isEqualTo(assigneeId));
+        assertThat(page.getItems().get(0).getDueDate()).isNotNull();
+        assertThat(page.getItems().get(199).getDueDate()).isNull();
+        assertThat(CapturedSql.STATEMENTS).hasSize(2)
+                .allSatisfy(sql -> assertThat(sql).doesNotContainIgnoringCase("users"));
+    }
+
+    @Test
+    void getTaskById_ReadsOneStatementWithoutUsers() {
+        UUID id = jdbcTemplate.queryForObject("SELECT id FROM tasks WHERE assignee_id IS NOT NULL LIMIT 1", UUID.class);
+
+        TaskDto task = taskService.getTaskById(id);
+
+        assertThat(task.getAssigneeId()).isNotNull();
+        assertThat(CapturedSql.STATEMENTS).hasSize(1);
+        assertThat(CapturedSql.last()).doesNotContainIgnoringCase("users");
+    }
+
+    @Test
+    void filterTasks_CarriesOnlySuppliedPredicatesAndUsesTheCompositeIndex() {
+        jdbcTemplate.update("INSERT INTO tasks (title, priority, status, due_date) VALUES "
+                + "('Renew DPA', 'HIGH', 'IN_PROGRESS', '2025-01-10'), ('Archive DPA', 'HIGH', 'CLOSED', '2025-01-12'), "
+                + "('Later DPA', 'HIGH', 'IN_PROGRESS', '2025-03-01')");
+        jdbcTemplate.execute("ANALYZE tasks");
+        TaskFilterDto filter = new TaskFilterDto();
+        filter.setStatus(Set.of(TaskStatus.IN_PROGRESS, TaskStatus.CLOSED));
+        filter.setPriority(Set.of(Priority.HIGH));
+        filter.setDueTo(LocalDateTime.of(2025, 2, 1, 0, 0));
+
+        TaskPageDto page = taskService.filterTasks(filter, TaskCursor.Sort.DUE_DATE, null, 50);
+
+        assertThat(page.getItems()).extracting(TaskDto::getTitle).containsExactly("Renew DPA", "Archive DPA");
+        assertThat(CapturedSql.STATEMENTS).hasSize(1);
+        String sql = CapturedSql.last();
+        assertThat(sql.substring(sql.indexOf(" where "))).doesNotContainIgnoringCase("is null")
+                .doesNotContainIgnoringCase("like")
+                .doesNotContain("assignee_id").doesNotContain("creator_id");
+        String plan = explain(sql, "IN_PROGRESS", "CLOSED", "HIGH", LocalDateTime.of(2025, 2, 1, 0, 0), 51);
+        assertThat(plan).contains("idx_tasks_status_priority_due").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void createTasks_InsertsInJdbcBatches() {
+        UUID creatorId = jdbcTemplate.queryForObject("SELECT id FROM users LIMIT 1", UUID.class);
+        List<TaskCreateDto> tasks = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            TaskCreateDto task = new TaskCreateDto();
+            task.setTitle("Onboarding step " + i);
+            task.setDescription("Processing activity onboarding");
+            task.setPriority(Priority.MEDIUM);
+            task.setAssigneeId(creatorId);
+            task.setDueDate(LocalDateTime.of(2025, 6, 1, 0, 0));
+            tasks.add(task);
+        }
+
+        TaskBatchResultDto result = taskService.createTasks(tasks, creatorId);
+        taskRepository.flush();
+
+        assertThat(result.getResults()).hasSize(120)
+                .allSatisfy(item -> assertThat(item.getOutcome()).isEqualTo(TaskBatchItemDto.Outcome.CREATED));
+        // One lookup for the users and one insert prepared for all rows; without JDBC batching Hibernate
+        // prepares the insert once per task
+        assertThat(CapturedSql.STATEMENTS).filteredOn(sql -> sql.startsWith("insert")).hasSize(1);
+        assertThat(CapturedSql.STATEMENTS).filteredOn(sql -> sql.contains("from users")).hasSize(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE title LIKE 'Onboarding step %'",
+                Integer.class)).isEqualTo(120);
+    }
+
+    private List<TaskDto> readAll(TaskCursor.Sort sort) {
+        List<TaskDto> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskPageDto page = taskService.getAllTasks(sort, cursor, 200);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(200);
+            all.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return all;
+    }
+
+    private int taskCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Integer.class);
+    }
+
+    // Strings are bound as varchar, like Hibernate does for these columns
+    private String explain(String sql, Object... parameters) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters));
+    }
+
+    private static void seed(JdbcTemplate jdbc) {
+        jdbc.execute("INSERT INTO users (id, email, username, password_hash, role) " +
+                "SELECT gen_random_uuid(), 'user' || i || '@example.com', 'user' || i, 'x', 'VIEWER' " +
+                "FROM generate_series(0, 19) AS i");
+        // A third have no due date; the rest share 50 dates. Every task has a creator, half an assignee.
+        jdbc.execute("WITH u AS (SELECT id, row_number() OVER (ORDER BY username) - 1 AS n FROM users) " +
+                "INSERT INTO tasks (title, description, priority, status, due_date, creator_id, assignee_id) " +
+                "SELECT 'Task ' || md5(i::text), 'Review processing record ' || md5((i * 7)::text), 'LOW', 'OPEN', " +
+                "CASE WHEN i % 3 = 0 THEN NULL ELSE TIMESTAMP '2025-01-01' + (i % 50) * INTERVAL '1 day' END, " +
+                "(SELECT id FROM u WHERE n = i % 20), " +
+                "CASE WHEN i % 2 = 0 THEN (SELECT id FROM u WHERE n = (i / 2) % 20) END " +
+                "FROM generate_series(1, 20000) AS i");
+        jdbc.execute("INSERT INTO tasks (title, description, priority, status) " +
+                "VALUES ('Audit vendor contract FINDME-4242', 'Check the DPA annex', 'HIGH', 'OPEN')");
+    }
+
+    public static class CapturedSql implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+        static String last() {
+            return STATEMENTS.get(STATEMENTS.size() - 1);
+        }
+    }
+}
@@ -1,32 +1,47 @@
 package com.project.gdpr;
 
+import com.project.gdpr.dto.TaskBatchItemDto;
+import com.project.gdpr.dto.TaskBatchResultDto;
 import com.project.gdpr.dto.TaskDto;
+import com.project.gdpr.dto.TaskFilterDto;
+import com.project.gdpr.dto.TaskPageDto;
 import com.project.gdpr.dto.TaskCreateDto;
 import com.project.gdpr.dto.CommentDto;
 import com.project.gdpr.entity.*;
+import com.project.gdpr.exception.InvalidCursorException;
 import com.project.gdpr.exception.ResourceNotFoundException;
 import com.project.gdpr.exception.UnauthorizedAccessException;
 import com.project.gdpr.repository.TaskRepository;
 import com.project.gdpr.repository.UserRepository;
 import com.project.gdpr.repository.CommentRepository;
+import com.project.gdpr.service.SearchResultCache;
+import com.project.gdpr.service.TaskCursor;
 import com.project.gdpr.service.TaskService;
+import com.project.gdpr.service.TaskStatistics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +56,13 @@ class TaskServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private TaskStatistics taskStatistics;
+
+    @Spy
+    private SearchResultCache searchResultCache =
+            new SearchResultCache(100, Duration.ofMinutes(10), Duration.ofSeconds(30), new SimpleMeterRegistry());
+
     @InjectMocks
     private TaskService taskService;
 
@@ -123,7 +145,7 @@ class TaskServiceTest {
 
     @Test
     void getTaskById_Success() {
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.findDtoById(taskId)).thenReturn(Optional.of(dtoOf(task)));
 
         TaskDto result = taskService.getTaskById(taskId);
 
@@ -134,7 +156,7 @@ class TaskServiceTest {
 
     @Test
     void getTaskById_NotFound_ThrowsException() {
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskRepository.findDtoById(taskId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> taskService.getTaskById(taskId))
             .isInstanceOf(ResourceNotFoundException.class)
@@ -143,22 +165,198 @@ class TaskServiceTest {
 
     @Test
     void getTasksByAssignee_Success() {
-        when(taskRepository.findByAssigneeId(assigneeId)).thenReturn(Arrays.asList(task));
+        when(taskRepository.findDtos(any(), any(), anyInt())).thenReturn(Arrays.asList(dtoOf(task)));
 
-        List<TaskDto> results = taskService.getTasksByAssignee(assigneeId);
+        TaskPageDto page = taskService.getTasksByAssignee(assigneeId, TaskCursor.Sort.CREATED_AT, null, 50);
 
-        assertThat(results).hasSize(1);
-        assertThat(results.get(0).getAssigneeId()).isEqualTo(assigneeId);
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getItems().get(0).getAssigneeId()).isEqualTo(assigneeId);
+        assertThat(page.getNextCursor()).isNull();
     }
 
     @Test
     void getTasksByCreator_Success() {
-        when(taskRepository.findByCreatorId(creatorId)).thenReturn(Arrays.asList(task));
+        when(taskRepository.findDtos(any(), any(), anyInt())).thenReturn(Arrays.asList(dtoOf(task)));
 
-        List<TaskDto> results = taskService.getTasksByCreator(creatorId);
+        TaskPageDto page = taskService.getTasksByCreator(creatorId, TaskCursor.Sort.CREATED_AT, null, 50);
 
-        assertThat(results).hasSize(1);
-        assertThat(results.get(0).getCreatorId()).isEqualTo(creatorId);
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getItems().get(0).getCreatorId()).isEqualTo(creatorId);
+    }
+
+    @Test
+    void getAllTasks_FetchesOneExtraRowToFindTheNextCursor() {
+        TaskDto second = copyOf(task, LocalDateTime.now().minusDays(1), null);
+        TaskDto third = copyOf(task, LocalDateTime.now().minusDays(2), null);
+        when(taskRepository.findDtos(any(), any(), anyInt())).thenReturn(Arrays.asList(dtoOf(task), second, third));
+
+        TaskPageDto page = taskService.getAllTasks(TaskCursor.Sort.CREATED_AT, null, 2);
+
+        assertThat(page.getItems()).extracting(TaskDto::getId).containsExactly(taskId, second.getId());
+        TaskCursor next = TaskCursor.decode(page.getNextCursor(), TaskCursor.Sort.CREATED_AT);
+        assertThat(next.key()).isEqualTo(second.getCreatedAt());
+        assertThat(next.id()).isEqualTo(second.getId());
+    }
+
+    @Test
+    void getAllTasks_ByDueDateContinuesWithUnscheduledTasks() {
+        TaskDto unscheduled = copyOf(task, task.getCreatedAt(), null);
+        when(taskRepository.findDtos(any(), any(), anyInt()))
+            .thenReturn(List.of(dtoOf(task)))
+            .thenReturn(List.of(unscheduled));
+
+        TaskPageDto page = taskService.getAllTasks(TaskCursor.Sort.DUE_DATE, null, 5);
+
+        assertThat(page.getItems()).extracting(TaskDto::getId).containsExactly(taskId, unscheduled.getId());
+        assertThat(page.getNextCursor()).isNull();
+        verify(taskRepository, times(2)).findDtos(any(), any(), anyInt());
+    }
+
+    @Test
+    void getAllTasks_CapsPageSize() {
+        when(taskRepository.findDtos(any(), any(), anyInt())).thenReturn(List.of());
+
+        taskService.getAllTasks(TaskCursor.Sort.CREATED_AT, null, 100_000);
+
+        verify(taskRepository).findDtos(any(), any(), eq(201));
+    }
+
+    @Test
+    void updateTask_AdjustsStatisticsByTheChange() {
+        User admin = new User();
+        admin.setId(UUID.randomUUID());
+        admin.setRole(UserRole.ADMIN);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(userRepository.findById(admin.getId())).thenReturn(Optional.of(admin));
+        when(taskRepository.save(task)).thenReturn(task);
+        TaskStatistics.Tally before = TaskStatistics.Tally.of(task);
+        TaskDto update = new TaskDto();
+        update.setTitle(task.getTitle());
+        update.setPriority(Priority.LOW);
+        update.setStatus(TaskStatus.CLOSED);
+
+        taskService.updateTask(taskId, update, admin.getId());
+
+        verify(taskStatistics).changed(before,
+            new TaskStatistics.Tally(TaskStatus.CLOSED, Priority.LOW, assigneeId, null));
+    }
+
+    @Test
+    void createTasks_ResolvesUsersInOneQueryAndReportsUnknownAssignees() {
+        TaskCreateDto unknownAssignee = new TaskCreateDto();
+        unknownAssignee.setTitle("Orphan");
+        unknownAssignee.setPriority(Priority.LOW);
+        unknownAssignee.setAssigneeId(UUID.randomUUID());
+        when(userRepository.findAllById(any())).thenReturn(List.of(creator, assignee));
+        when(taskRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(created -> created.setId(UUID.randomUUID()));
+            return tasks;
+        });
+
+        TaskBatchResultDto result = taskService.createTasks(List.of(taskCreateDto, unknownAssignee), creatorId);
+
+        assertThat(result.getResults()).extracting(TaskBatchItemDto::getIndex, TaskBatchItemDto::getOutcome)
+            .containsExactly(tuple(0, TaskBatchItemDto.Outcome.CREATED), tuple(1, TaskBatchItemDto.Outcome.NOT_FOUND));
+        assertThat(result.getResults().get(0).getTaskId()).isNotNull();
+        verify(userRepository, times(1)).findAllById(any());
+        verify(userRepository, never()).findById(any());
+        verify(taskStatistics, times(1)).added(any());
+    }
+
+    @Test
+    void updateTasksStatus_ReportsEachTask() {
+        User other = new User();
+        other.setId(UUID.randomUUID());
+        Task closed = copyOfEntity(task, creator);
+        closed.setStatus(TaskStatus.CLOSED);
+        Task othersTask = copyOfEntity(task, other);
+        othersTask.setAssignee(null);
+        UUID missing = UUID.randomUUID();
+        assignee.setRole(UserRole.VIEWER);
+        task.setCreator(other);
+        closed.setAssignee(assignee);
+        when(userRepository.findById(assigneeId)).thenReturn(Optional.of(assignee));
+        when(taskRepository.findAllById(any())).thenReturn(List.of(task, closed, othersTask));
+
+        TaskBatchResultDto result = taskService.updateTasksStatus(
+            List.of(taskId, closed.getId(), othersTask.getId(), missing, taskId), TaskStatus.CLOSED, assigneeId);
+
+        assertThat(result.getResults()).extracting(TaskBatchItemDto::getTaskId, TaskBatchItemDto::getOutcome)
+            .containsExactly(
+                tuple(taskId, TaskBatchItemDto.Outcome.UPDATED),
+                tuple(closed.getId(), TaskBatchItemDto.Outcome.UNCHANGED),
+                tuple(othersTask.getId(), TaskBatchItemDto.Outcome.FORBIDDEN),
+                tuple(missing, TaskBatchItemDto.Outcome.NOT_FOUND));
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.CLOSED);
+        assertThat(othersTask.getStatus()).isEqualTo(TaskStatus.OPEN);
+        verify(taskRepository, times(1)).findAllById(any());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void reassignTasks_ToTheActingUser() {
+        when(userRepository.findAllById(Set.of(creatorId))).thenReturn(List.of(creator));
+        when(taskRepository.findAllById(any())).thenReturn(List.of(task));
+
+        TaskBatchResultDto result = taskService.reassignTasks(List.of(taskId), creatorId, creatorId);
+
+        assertThat(result.getResults()).extracting(TaskBatchItemDto::getOutcome)
+            .containsExactly(TaskBatchItemDto.Outcome.UPDATED);
+        assertThat(task.getAssignee()).isSameAs(creator);
+    }
+
+    @Test
+    void deleteTasks_DeletesOnlyPermittedTasksInOneStatement() {
+        User viewer = new User();
+        viewer.setId(UUID.randomUUID());
+        viewer.setRole(UserRole.VIEWER);
+        Task own = copyOfEntity(task, viewer);
+        when(userRepository.findById(viewer.getId())).thenReturn(Optional.of(viewer));
+        when(taskRepository.findAllById(any())).thenReturn(List.of(task, own));
+
+        TaskBatchResultDto result = taskService.deleteTasks(List.of(taskId, own.getId()), viewer.getId());
+
+        assertThat(result.getResults()).extracting(TaskBatchItemDto::getOutcome)
+            .containsExactly(TaskBatchItemDto.Outcome.FORBIDDEN, TaskBatchItemDto.Outcome.DELETED);
+        verify(taskRepository).deleteAllByIdInBatch(List.of(own.getId()));
+        verify(taskRepository, never()).delete(any(Task.class));
+    }
+
+    @Test
+    void filterTasks_OverdueClosedTasksNeedNoQuery() {
+        TaskFilterDto filter = new TaskFilterDto();
+        filter.setStatus(Set.of(TaskStatus.CLOSED));
+        filter.setOverdue(true);
+
+        TaskPageDto page = taskService.filterTasks(filter, TaskCursor.Sort.DUE_DATE, null, 50);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void filterTasks_DueDateRangeSkipsUnscheduledTasks() {
+        TaskFilterDto filter = new TaskFilterDto();
+        filter.setDueFrom(LocalDateTime.now());
+        when(taskRepository.findDtos(any(), any(), anyInt())).thenReturn(List.of(dtoOf(task)));
+
+        TaskPageDto page = taskService.filterTasks(filter, TaskCursor.Sort.DUE_DATE, null, 50);
+
+        assertThat(page.getItems()).extracting(TaskDto::getId).containsExactly(taskId);
+        verify(taskRepository, times(1)).findDtos(any(), any(), anyInt());
+    }
+
+    @Test
+    void getAllTasks_RejectsMalformedCursor() {
+        String dueDateCursor = new TaskCursor(TaskCursor.Sort.DUE_DATE, null, taskId).encode();
+
+        assertThatThrownBy(() -> taskService.getAllTasks(TaskCursor.Sort.CREATED_AT, dueDateCursor, 50))
+            .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> taskService.getAllTasks(TaskCursor.Sort.CREATED_AT, "%%%", 50))
+            .isInstanceOf(InvalidCursorException.class);
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
@@ -253,4 +451,54 @@ class TaskServiceTest {
         assertThat(results).hasSize(1);
         assertThat(results.get(0).getContent()).isEqualTo(comment.getContent());
     }
-}
+
+    @Test
+    void searchTasks_ReusesResultsForSameNormalizedQueryUntilTaskWrite() {
+        when(taskRepository.findDtos(any(), any(), anyInt())).thenReturn(Arrays.asList(dtoOf(task)));
+
+        taskService.searchTasks("test", "OPEN", "ALL", TaskCursor.Sort.CREATED_AT, null, 50);
+        taskService.searchTasks("  TEST ", "OPEN", null, TaskCursor.Sort.CREATED_AT, "", 50);
+        verify(taskRepository, times(1)).findDtos(any(), any(), anyInt());
+
+        taskService.searchTasks("test", "OPEN", "ALL", TaskCursor.Sort.CREATED_AT, null, 20);
+        verify(taskRepository, times(2)).findDtos(any(), any(), anyInt());
+
+        when(userRepository.findById(creatorId)).thenReturn(Optional.of(creator));
+        when(userRepository.findById(assigneeId)).thenReturn(Optional.of(assignee));
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        taskService.createTask(taskCreateDto, creatorId);
+
+        taskService.searchTasks("test", "OPEN", "ALL", TaskCursor.Sort.CREATED_AT, null, 50);
+        verify(taskRepository, times(3)).findDtos(any(), any(), anyInt());
+    }
+
+    private static TaskDto copyOf(Task source, LocalDateTime createdAt, LocalDateTime dueDate) {
+        Task copy = new Task();
+        copy.setId(UUID.randomUUID());
+        copy.setCreator(source.getCreator());
+        copy.setAssignee(source.getAssignee());
+        copy.setTitle(source.getTitle());
+        copy.setPriority(source.getPriority());
+        copy.setStatus(source.getStatus());
+        copy.setCreatedAt(createdAt);
+        copy.setDueDate(dueDate);
+        return dtoOf(copy);
+    }
+
+    private static Task copyOfEntity(Task source, User creator) {
+        Task copy = new Task();
+        copy.setId(UUID.randomUUID());
+        copy.setCreator(creator);
+        copy.setAssignee(source.getAssignee());
+        copy.setTitle(source.getTitle());
+        copy.setPriority(source.getPriority());
+        copy.setStatus(source.getStatus());
+        return copy;
+    }
+
+    private static TaskDto dtoOf(Task task) {
+        return new TaskDto(task.getId(), task.getCreator().getId(), task.getAssignee().getId(), task.getTitle(),
+            task.getDescription(), task.getPriority(), task.getStatus(), task.getDueDate(), task.getCreatedAt(),
+            task.getUpdatedAt());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.project.gdpr;
+
+import com.project.gdpr.dto.TaskStatsDto;
+import com.project.gdpr.entity.Priority;
+import com.project.gdpr.entity.TaskStatus;
+import com.project.gdpr.repository.DueDateCount;
+import com.project.gdpr.repository.TaskCount;
+import com.project.gdpr.repository.TaskRepository;
+import com.project.gdpr.service.TaskStatistics;
+import com.project.gdpr.service.TaskStatistics.Tally;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatisticsTest {
+
+    private static final LocalDateTime YESTERDAY = LocalDateTime.now().minusDays(1);
+    private static final LocalDateTime NEXT_WEEK = LocalDateTime.now().plusDays(7);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskStatistics taskStatistics;
+    private UUID assigneeId;
+
+    @BeforeEach
+    void setUp() {
+        taskStatistics = new TaskStatistics(taskRepository);
+        assigneeId = UUID.randomUUID();
+        when(taskRepository.countByStatusPriorityAndAssignee()).thenReturn(List.of(
+                new TaskCount(TaskStatus.OPEN, Priority.HIGH, assigneeId, 3L),
+                new TaskCount(TaskStatus.CLOSED, Priority.LOW, null, 2L)));
+        when(taskRepository.countOpenByDueDate()).thenReturn(List.of(
+                new DueDateCount(YESTERDAY, 2L),
+                new DueDateCount(NEXT_WEEK, 1L)));
+    }
+
+    @Test
+    void snapshot_LoadsOnceFromGroupedCounts() {
+        TaskStatsDto stats = taskStatistics.snapshot();
+        taskStatistics.snapshot();
+
+        assertThat(stats.getTotal()).isEqualTo(5);
+        assertThat(stats.getByStatus()).containsEntry(TaskStatus.OPEN, 3L).containsEntry(TaskStatus.CLOSED, 2L)
+                .containsEntry(TaskStatus.IN_PROGRESS, 0L);
+        assertThat(stats.getByPriority()).containsEntry(Priority.HIGH, 3L).containsEntry(Priority.MEDIUM, 0L);
+        assertThat(stats.getByAssignee()).containsExactlyEntriesOf(Map.of(assigneeId, 3L));
+        assertThat(stats.getUnassigned()).isEqualTo(2);
+        assertThat(stats.getOverdue()).isEqualTo(2);
+        verify(taskRepository, times(1)).countByStatusPriorityAndAssignee();
+    }
+
+    @Test
+    void writes_AdjustCountsWithoutQuerying() {
+        taskStatistics.snapshot();
+
+        Tally overdue = new Tally(TaskStatus.OPEN, Priority.HIGH, assigneeId, YESTERDAY);
+        taskStatistics.changed(overdue, new Tally(TaskStatus.CLOSED, Priority.HIGH, assigneeId, YESTERDAY));
+        taskStatistics.added(new Tally(TaskStatus.OPEN, Priority.MEDIUM, null, LocalDateTime.now().minusHours(1)));
+        taskStatistics.removed(new Tally(TaskStatus.CLOSED, Priority.LOW, null, null));
+        TaskStatsDto stats = taskStatistics.snapshot();
+
+        assertThat(stats.getTotal()).isEqualTo(5);
+        assertThat(stats.getByStatus()).containsEntry(TaskStatus.OPEN, 3L).containsEntry(TaskStatus.CLOSED, 2L);
+        assertThat(stats.getByPriority()).containsEntry(Priority.MEDIUM, 1L).containsEntry(Priority.LOW, 1L);
+        assertThat(stats.getUnassigned()).isEqualTo(2);
+        // One of yesterday's tasks was closed, one new task is an hour overdue
+        assertThat(stats.getOverdue()).isEqualTo(2);
+        verify(taskRepository, times(1)).countByStatusPriorityAndAssignee();
+    }
+
+    @Test
+    void reconcile_ReplacesDriftedCounts() {
+        taskStatistics.snapshot();
+        taskStatistics.removed(new Tally(TaskStatus.OPEN, Priority.HIGH, assigneeId, NEXT_WEEK));
+        assertThat(taskStatistics.snapshot().getTotal()).isEqualTo(4);
+
+        taskStatistics.reconcile();
+
+        TaskStatsDto stats = taskStatistics.snapshot();
+        assertThat(stats.getTotal()).isEqualTo(5);
+        assertThat(stats.getByAssignee()).containsEntry(assigneeId, 3L);
+    }
+
+    @Test
+    void writes_BeforeFirstLoadAreLeftToTheLoad() {
+        taskStatistics.added(new Tally(TaskStatus.OPEN, Priority.LOW, null, null));
+
+        assertThat(taskStatistics.snapshot().getTotal()).isEqualTo(5);
+    }
+}
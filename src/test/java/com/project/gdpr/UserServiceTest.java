@@ -7,6 +7,9 @@ import com.project.gdpr.entity.UserRole;
 import com.project.gdpr.exception.ResourceNotFoundException;
 import com.project.gdpr.exception.UserAlreadyExistsException;
 import com.project.gdpr.repository.UserRepository;
+import com.project.gdpr.security.PrincipalCache;
+import com.project.gdpr.security.TokenVersionRegistry;
+import com.project.gdpr.service.RefreshTokenService;
 import com.project.gdpr.service.UserService;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +40,15 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @InjectMocks
     private UserService userService;
 
@@ -169,6 +181,7 @@ class UserServiceTest {
         assertThat(result.getJobTitle()).isEqualTo(updateDto.getJobTitle());
 
         verify(userRepository).save(any(User.class));
+        verify(principalCache).invalidate("olduser");
     }
 
     @Test
@@ -195,6 +208,8 @@ class UserServiceTest {
         userService.deleteUser(userId);
 
         verify(userRepository).deleteById(userId);
+        verify(principalCache).invalidate(userId);
+        verify(tokenVersionRegistry).revoke(userId);
     }
 
     @Test
@@ -234,6 +249,9 @@ class UserServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getRole()).isEqualTo(UserRole.EDITOR);
         verify(userRepository).save(any(User.class));
+        verify(principalCache).invalidate(user.getUsername());
+        assertThat(user.getTokenVersion()).isEqualTo(1L);
+        verify(tokenVersionRegistry).update(userId, 1L);
     }
 
     @Test
@@ -0,0 +1,63 @@
+package com.project.gdpr.benchmark;
+
+import com.project.gdpr.dto.GdprArticleDto;
+import com.project.gdpr.search.ArticleSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Article search over the full GDPR corpus.
+ * <p>
+ * {@code exactQuery} only hits terms in the vocabulary. {@code misspelledQuery} forces the
+ * edit-distance fallback for every term; the BK-tree is built once in setup so this measures
+ * lookups alone. {@code buildIndex} is the cost of indexing the corpus from scratch.
+ * <p>
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.project.gdpr.benchmark.ArticleSearchBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArticleSearchBenchmark {
+
+    private GdprArticleDto[] corpus;
+    private ArticleSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        corpus = GdprCorpus.load();
+        index = ArticleSearchIndex.build(corpus);
+        index.search("controler", 1);
+    }
+
+    @Benchmark
+    public List<ArticleSearchIndex.Hit> exactQuery() {
+        return index.search("controller personal data breach", 20);
+    }
+
+    @Benchmark
+    public List<ArticleSearchIndex.Hit> misspelledQuery() {
+        return index.search("controler personnal dta breech", 20);
+    }
+
+    @Benchmark
+    public ArticleSearchIndex buildIndex() {
+        return ArticleSearchIndex.build(corpus);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ArticleSearchBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
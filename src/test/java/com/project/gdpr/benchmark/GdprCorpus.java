@@ -0,0 +1,88 @@
+package com.project.gdpr.benchmark;
+
+import com.project.gdpr.dto.GdprArticleDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The GDPR articles seeded by the Flyway migrations, read straight from their INSERT statements so
+ * benchmarks run against the real corpus without a database.
+ */
+final class GdprCorpus {
+
+    private static final String[] MIGRATIONS = {
+            "db/migration/V2__insert_gdpr_articles.sql",
+            "db/migration/V3__added_gdpr_articles.sql",
+            "db/migration/V4__final_gdpr_articles.sql"
+    };
+
+    private GdprCorpus() {
+    }
+
+    static GdprArticleDto[] load() {
+        List<GdprArticleDto> articles = new ArrayList<>();
+        for (String migration : MIGRATIONS) {
+            parseRows(read(migration), articles);
+        }
+        return articles.toArray(new GdprArticleDto[0]);
+    }
+
+    private static String read(String resource) {
+        try (InputStream in = GdprCorpus.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing migration " + resource);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Collects the quoted literals of each parenthesised VALUES row; those inside ARRAY[...] are keywords
+    private static void parseRows(String sql, List<GdprArticleDto> articles) {
+        List<String> values = new ArrayList<>();
+        List<String> keywords = new ArrayList<>();
+        boolean inArray = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                StringBuilder literal = new StringBuilder();
+                while (++i < sql.length()) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                            literal.append('\'');
+                            i++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        literal.append(sql.charAt(i));
+                    }
+                }
+                (inArray ? keywords : values).add(literal.toString());
+            } else if (c == '[') {
+                inArray = true;
+            } else if (c == ']') {
+                inArray = false;
+            } else if (c == '(') {
+                values.clear();
+                keywords.clear();
+            } else if (c == ')' && values.size() == 3) {
+                GdprArticleDto dto = new GdprArticleDto();
+                dto.setId(UUID.nameUUIDFromBytes(values.get(0).getBytes(StandardCharsets.UTF_8)));
+                dto.setArticleNumber(values.get(0));
+                dto.setTitle(values.get(1));
+                dto.setContent(values.get(2));
+                dto.setKeywords(keywords.toArray(new String[0]));
+                articles.add(dto);
+                values.clear();
+            }
+        }
+    }
+}
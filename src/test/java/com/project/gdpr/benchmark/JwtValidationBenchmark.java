@@ -0,0 +1,79 @@
+package com.project.gdpr.benchmark;
+
+import com.project.gdpr.config.JwtService;
+import com.project.gdpr.config.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Per-request cost of authenticating a Bearer token in JwtAuthenticationFilter.
+ * <p>
+ * {@code legacyFilterPath} reproduces the old behaviour: extractUsername followed by isTokenValid,
+ * which parsed the token three times and rebuilt the signing key for each parse.
+ * {@code verifiedTokenPath} is the current single-parse path.
+ * <p>
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.project.gdpr.benchmark.JwtValidationBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "92D85F6314552F7CA7F89E95177CF89AABBCCDDEEFF1234";
+
+    private JwtService jwtService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 86400000L, 604800000L, false);
+        userDetails = User.withUsername("benchmark-user").password("n/a").roles("VIEWER").build();
+        token = jwtService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public boolean legacyFilterPath() {
+        String username = legacyExtractClaim(token, Claims::getSubject);
+        boolean usernameMatches = username.equals(userDetails.getUsername());
+        boolean sameSubject = legacyExtractClaim(token, Claims::getSubject).equals(username);
+        boolean expired = legacyExtractClaim(token, Claims::getExpiration).before(new Date());
+        return usernameMatches && sameSubject && !expired;
+    }
+
+    @Benchmark
+    public String verifiedTokenPath() {
+        return jwtService.verify(token).map(VerifiedToken::getSubject).orElse(null);
+    }
+
+    private static <T> T legacyExtractClaim(String token, Function<Claims, T> resolver) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        return resolver.apply(claims);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtValidationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}